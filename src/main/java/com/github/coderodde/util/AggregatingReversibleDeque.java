@@ -0,0 +1,193 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+
+/**
+ * This class implements a reversible deque that maintains the aggregate of
+ * all its elements under an associative operator with an identity element
+ * (a monoid), such as sum, minimum or maximum. The operator does not need to
+ * be commutative.
+ * <p>
+ * The deque is stored as two stacks: the front stack holds a prefix of the
+ * deque with its first element on top, and the back stack holds the rest with
+ * the last element on top. Each stack entry caches the aggregate of itself
+ * and all the entries below it, in both directions, so that the aggregate of
+ * the whole deque is available in constant time and {@link #revert()} only
+ * needs to swap the roles of the two stacks. When one stack runs empty, the
+ * other one is split in half; thus, all the deque operations run in amortized
+ * constant time.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class AggregatingReversibleDeque<E> {
+
+    private static final class Entry<E> {
+        final E value;
+
+        // The aggregate of this and all the entries below, in the top-down
+        // order:
+        final E topDownAggregate;
+
+        // The aggregate of this and all the entries below, in the bottom-up
+        // order:
+        final E bottomUpAggregate;
+
+        Entry(E value, E topDownAggregate, E bottomUpAggregate) {
+            this.value = value;
+            this.topDownAggregate = topDownAggregate;
+            this.bottomUpAggregate = bottomUpAggregate;
+        }
+    }
+
+    private final E identity;
+    private final BinaryOperator<E> operator;
+    private List<Entry<E>> frontStack = new ArrayList<>();
+    private List<Entry<E>> backStack = new ArrayList<>();
+    private boolean reverted;
+
+    public AggregatingReversibleDeque(E identity, BinaryOperator<E> operator) {
+        this.identity = identity;
+        this.operator = Objects.requireNonNull(operator, "operator is null.");
+    }
+
+    // O(1)!
+    public void revert() {
+        List<Entry<E>> tmp = frontStack;
+        frontStack = backStack;
+        backStack = tmp;
+        reverted = !reverted;
+    }
+
+    public boolean isReverted() {
+        return reverted;
+    }
+
+    // Returns the aggregate of all the elements from first to last, in O(1).
+    public E aggregate() {
+        return operator.apply(getFrontAggregate(), getBackAggregate());
+    }
+
+    public void addFirst(E e) {
+        push(frontStack, e);
+    }
+
+    public void addLast(E e) {
+        push(backStack, e);
+    }
+
+    public E removeFirst() {
+        checkNotEmpty();
+
+        if (frontStack.isEmpty()) {
+            rebalance(backStack, frontStack);
+        }
+
+        return pop(frontStack);
+    }
+
+    public E removeLast() {
+        checkNotEmpty();
+
+        if (backStack.isEmpty()) {
+            rebalance(frontStack, backStack);
+        }
+
+        return pop(backStack);
+    }
+
+    public E getFirst() {
+        checkNotEmpty();
+
+        return frontStack.isEmpty() ?
+                backStack.get(0).value :
+                frontStack.get(frontStack.size() - 1).value;
+    }
+
+    public E getLast() {
+        checkNotEmpty();
+
+        return backStack.isEmpty() ?
+                frontStack.get(0).value :
+                backStack.get(backStack.size() - 1).value;
+    }
+
+    public int size() {
+        return frontStack.size() + backStack.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        frontStack.clear();
+        backStack.clear();
+    }
+
+    private void push(List<Entry<E>> stack, E e) {
+        E topDownAggregate;
+        E bottomUpAggregate;
+
+        if (stack.isEmpty()) {
+            topDownAggregate = e;
+            bottomUpAggregate = e;
+        } else {
+            Entry<E> top = stack.get(stack.size() - 1);
+            topDownAggregate = operator.apply(e, top.topDownAggregate);
+            bottomUpAggregate = operator.apply(top.bottomUpAggregate, e);
+        }
+
+        stack.add(new Entry<>(e, topDownAggregate, bottomUpAggregate));
+    }
+
+    private static <E> E pop(List<Entry<E>> stack) {
+        return stack.remove(stack.size() - 1).value;
+    }
+
+    // Moves the bottom half of 'source' onto the empty 'target'. The bottom
+    // of 'source' holds the elements closest to the end of 'target'.
+    private void rebalance(List<Entry<E>> source, List<Entry<E>> target) {
+        int sourceSize = source.size();
+        int moveCount = (sourceSize + 1) / 2;
+        List<E> keptValues = new ArrayList<>(sourceSize - moveCount);
+
+        for (int i = moveCount; i < sourceSize; i++) {
+            keptValues.add(source.get(i).value);
+        }
+
+        // The bottom of 'target' must be the element farthest from its end:
+        for (int i = moveCount - 1; i >= 0; i--) {
+            push(target, source.get(i).value);
+        }
+
+        source.clear();
+
+        for (E value : keptValues) {
+            push(source, value);
+        }
+    }
+
+    private E getFrontAggregate() {
+        return frontStack.isEmpty() ?
+                identity :
+                frontStack.get(frontStack.size() - 1).topDownAggregate;
+    }
+
+    private E getBackAggregate() {
+        return backStack.isEmpty() ?
+                identity :
+                backStack.get(backStack.size() - 1).bottomUpAggregate;
+    }
+
+    private void checkNotEmpty() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a thread-safe facade over {@link ReversibleDeque}
+ * whose take operations wait for an element instead of throwing on an empty
+ * deque. {@link #takeFirstAsync()} and {@link #takeLastAsync()} return a
+ * {@link CompletableFuture} that is completed as soon as an element is
+ * available; if there are pending takers, {@link #addFirst(java.lang.Object)}
+ * and {@link #addLast(java.lang.Object)} hand the new element directly to the
+ * oldest one without storing it in the deque.
+ * <p>
+ * Waiting takers may be cancelled or timed out; an element is never lost to a
+ * taker that gave up. The blocking variants park on the future, and all the
+ * internal state is guarded by a {@link ReentrantLock} which is never held
+ * while parking or while running the callbacks of a completed future, so no
+ * {@code synchronized} block can pin the carrier of a virtual thread.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class AsyncReversibleDeque<E> {
+
+    private final ReversibleDeque<E> deque = new ReversibleDeque<>();
+    private final Queue<CompletableFuture<E>> waiters = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public void revert() {
+        lock.lock();
+
+        try {
+            deque.revert();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReverted() {
+        lock.lock();
+
+        try {
+            return deque.isReverted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addFirst(E e) {
+        add(e, true);
+    }
+
+    public void addLast(E e) {
+        add(e, false);
+    }
+
+    public CompletableFuture<E> takeFirstAsync() {
+        return take(true);
+    }
+
+    public CompletableFuture<E> takeLastAsync() {
+        return take(false);
+    }
+
+    public CompletableFuture<E> takeFirstAsync(long timeout, TimeUnit unit) {
+        return take(true).orTimeout(timeout, unit);
+    }
+
+    public CompletableFuture<E> takeLastAsync(long timeout, TimeUnit unit) {
+        return take(false).orTimeout(timeout, unit);
+    }
+
+    public E takeFirst() throws InterruptedException {
+        return await(take(true));
+    }
+
+    public E takeLast() throws InterruptedException {
+        return await(take(false));
+    }
+
+    // Returns null on timeout.
+    public E pollFirst(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return await(take(true), timeout, unit);
+    }
+
+    // Returns null on timeout.
+    public E pollLast(long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return await(take(false), timeout, unit);
+    }
+
+    public int size() {
+        lock.lock();
+
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int getNumberOfWaiters() {
+        lock.lock();
+
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void add(E e, boolean atFront) {
+        while (true) {
+            CompletableFuture<E> waiter;
+            lock.lock();
+
+            try {
+                waiter = waiters.poll();
+
+                if (waiter == null) {
+                    if (atFront) {
+                        deque.addFirst(e);
+                    } else {
+                        deque.addLast(e);
+                    }
+
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            // Complete outside of the lock, since completing runs the
+            // dependent stages of the waiter:
+            if (waiter.complete(e)) {
+                return;
+            }
+
+            // The waiter was cancelled or timed out. Try the next one.
+        }
+    }
+
+    private CompletableFuture<E> take(boolean fromFront) {
+        CompletableFuture<E> waiter;
+        lock.lock();
+
+        try {
+            if (!deque.isEmpty()) {
+                return CompletableFuture.completedFuture(
+                        fromFront ? deque.removeFirst() : deque.removeLast());
+            }
+
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        } finally {
+            lock.unlock();
+        }
+
+        waiter.whenComplete((e, throwable) -> {
+            if (throwable != null) {
+                removeWaiter(waiter);
+            }
+        });
+
+        return waiter;
+    }
+
+    private void removeWaiter(CompletableFuture<E> waiter) {
+        lock.lock();
+
+        try {
+            waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <E> E await(CompletableFuture<E> future)
+            throws InterruptedException {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            return abandon(future, ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static <E> E await(CompletableFuture<E> future,
+                               long timeout,
+                               TimeUnit unit) throws InterruptedException {
+        try {
+            return future.get(timeout, unit);
+        } catch (TimeoutException ex) {
+            if (future.cancel(false)) {
+                return null;
+            }
+
+            // Completed between the timeout and the cancellation:
+            return future.join();
+        } catch (InterruptedException ex) {
+            return abandon(future, ex);
+        } catch (ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+
+    private static <E> E abandon(CompletableFuture<E> future,
+                                 InterruptedException ex)
+            throws InterruptedException {
+        if (future.cancel(false)) {
+            throw ex;
+        }
+
+        // An element was handed over before we could give up. Do not lose it:
+        E e = future.join();
+        Thread.currentThread().interrupt();
+        return e;
+    }
+}
@@ -0,0 +1,335 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * This class implements a lazily evaluated view over a
+ * {@link ReversibleDeque}. Views are obtained via
+ * {@link ReversibleDeque#view()} and chained via {@link #filter(Predicate)},
+ * {@link #map(Function)}, {@link #skip(long)} and {@link #limit(long)}. No
+ * stage copies the elements: iterating a view walks the nodes of the deque on
+ * demand, starting from the end that is first with respect to the
+ * {@code reverted} state of the deque at the time the iteration begins, and
+ * stops as soon as the last stage is satisfied.
+ * <p>
+ * A view is live: it reflects the contents of the deque at the time it is
+ * iterated. Modifying the deque while iterating a view makes the iterator
+ * throw a {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * {@link #reversed()} runs in constant time. Filtering and mapping stages
+ * commute with the reversal; reversing a view that contains a {@code skip} or
+ * a {@code limit} stage makes its iteration count the elements of the stages
+ * below it first, which takes no extra space. Counting and skipping never
+ * apply a mapper, and counting the deque itself takes constant time, so the
+ * only stages a reversed slice evaluates more than once are the filters below
+ * it.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public abstract class DequeView<E> implements Iterable<E> {
+
+    DequeView() {}
+
+    static <E> DequeView<E> of(ReversibleDeque<E> deque) {
+        return new SourceView<>(deque, false);
+    }
+
+    // Returns a view of the same elements in the opposite order.
+    public abstract DequeView<E> reversed();
+
+    public DequeView<E> filter(Predicate<? super E> predicate) {
+        return new FilterView<>(
+                this,
+                Objects.requireNonNull(predicate, "predicate is null."));
+    }
+
+    public <R> DequeView<R> map(Function<? super E, ? extends R> mapper) {
+        return new MapView<>(
+                this,
+                Objects.requireNonNull(mapper, "mapper is null."));
+    }
+
+    public DequeView<E> skip(long n) {
+        return new SliceView<>(this, checkNotNegative(n), Long.MAX_VALUE, false);
+    }
+
+    public DequeView<E> limit(long maxSize) {
+        return new SliceView<>(this, 0L, checkNotNegative(maxSize), false);
+    }
+
+    public long count() {
+        long count = 0L;
+
+        for (Iterator<E> iterator = iterator(); iterator.hasNext();) {
+            iterator.next();
+            count++;
+        }
+
+        return count;
+    }
+
+    // Returns an iterator over the elements of this view except the first
+    // 'n' ones. Stages that keep every element override this in order to skip
+    // without evaluating anything.
+    Iterator<E> iteratorSkipping(long n) {
+        Iterator<E> iterator = iterator();
+
+        while (n-- > 0L && iterator.hasNext()) {
+            iterator.next();
+        }
+
+        return iterator;
+    }
+
+    public List<E> toList() {
+        List<E> list = new ArrayList<>();
+        forEach(list::add);
+        return list;
+    }
+
+    private static long checkNotNegative(long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException("n = " + n + " < 0");
+        }
+
+        return n;
+    }
+
+    private static final class SourceView<E> extends DequeView<E> {
+
+        private final ReversibleDeque<E> deque;
+        private final boolean descending;
+
+        SourceView(ReversibleDeque<E> deque, boolean descending) {
+            this.deque = deque;
+            this.descending = descending;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return descending ? deque.descendingIterator() : deque.iterator();
+        }
+
+        @Override
+        public DequeView<E> reversed() {
+            return new SourceView<>(deque, !descending);
+        }
+
+        @Override
+        public long count() {
+            return deque.size();
+        }
+    }
+
+    private static final class FilterView<E> extends DequeView<E> {
+
+        private final DequeView<E> upstream;
+        private final Predicate<? super E> predicate;
+
+        FilterView(DequeView<E> upstream, Predicate<? super E> predicate) {
+            this.upstream = upstream;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            Iterator<E> upstreamIterator = upstream.iterator();
+
+            return new Iterator<E>() {
+
+                private E nextElement;
+                private boolean nextElementReady;
+
+                @Override
+                public boolean hasNext() {
+                    while (!nextElementReady && upstreamIterator.hasNext()) {
+                        E e = upstreamIterator.next();
+
+                        if (predicate.test(e)) {
+                            nextElement = e;
+                            nextElementReady = true;
+                        }
+                    }
+
+                    return nextElementReady;
+                }
+
+                @Override
+                public E next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException(
+                                "No more elements to iterate.");
+                    }
+
+                    E e = nextElement;
+                    nextElement = null;
+                    nextElementReady = false;
+                    return e;
+                }
+            };
+        }
+
+        @Override
+        public DequeView<E> reversed() {
+            return new FilterView<>(upstream.reversed(), predicate);
+        }
+    }
+
+    private static final class MapView<S, E> extends DequeView<E> {
+
+        private final DequeView<S> upstream;
+        private final Function<? super S, ? extends E> mapper;
+
+        MapView(DequeView<S> upstream,
+                Function<? super S, ? extends E> mapper) {
+            this.upstream = upstream;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return map(upstream.iterator());
+        }
+
+        @Override
+        public DequeView<E> reversed() {
+            return new MapView<>(upstream.reversed(), mapper);
+        }
+
+        // Mapping does not change the number of elements.
+        @Override
+        public long count() {
+            return upstream.count();
+        }
+
+        @Override
+        Iterator<E> iteratorSkipping(long n) {
+            return map(upstream.iteratorSkipping(n));
+        }
+
+        private Iterator<E> map(Iterator<S> upstreamIterator) {
+            return new Iterator<E>() {
+
+                @Override
+                public boolean hasNext() {
+                    return upstreamIterator.hasNext();
+                }
+
+                @Override
+                public E next() {
+                    return mapper.apply(upstreamIterator.next());
+                }
+            };
+        }
+    }
+
+    // Selects at most 'maxSize' elements of 'upstream' after skipping the
+    // first 'from' ones. If 'reversedSlice' is set, the selected elements are
+    // emitted in the opposite order.
+    private static final class SliceView<E> extends DequeView<E> {
+
+        private final DequeView<E> upstream;
+        private final long from;
+        private final long maxSize;
+        private final boolean reversedSlice;
+
+        SliceView(DequeView<E> upstream,
+                  long from,
+                  long maxSize,
+                  boolean reversedSlice) {
+            this.upstream = upstream;
+            this.from = from;
+            this.maxSize = maxSize;
+            this.reversedSlice = reversedSlice;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return iteratorSkipping(0L);
+        }
+
+        @Override
+        public DequeView<E> reversed() {
+            return new SliceView<>(upstream, from, maxSize, !reversedSlice);
+        }
+
+        @Override
+        public long count() {
+            return Math.min(maxSize, Math.max(0L, upstream.count() - from));
+        }
+
+        @Override
+        Iterator<E> iteratorSkipping(long n) {
+            if (!reversedSlice) {
+                // Saturate instead of overflowing:
+                long toSkip = from + n < 0L ? Long.MAX_VALUE : from + n;
+
+                return new SliceIterator<>(upstream,
+                                           toSkip,
+                                           Math.max(0L, maxSize - n));
+            }
+
+            // The slice is upstream[start], ..., upstream[end - 1], which is
+            // reversed[upstreamSize - end], ..., reversed[upstreamSize - 1 -
+            // start] in the reversed upstream:
+            long upstreamSize = upstream.count();
+            long start = Math.min(upstreamSize, from);
+            long end = maxSize > upstreamSize - start ?
+                    upstreamSize :
+                    start + maxSize;
+
+            long skipped = Math.min(n, end - start);
+
+            return new SliceIterator<>(upstream.reversed(),
+                                       upstreamSize - end + skipped,
+                                       end - start - skipped);
+        }
+    }
+
+    // Skips lazily, once the first element is asked for.
+    private static final class SliceIterator<E> implements Iterator<E> {
+
+        private final DequeView<E> upstream;
+        private final long toSkip;
+        private Iterator<E> upstreamIterator;
+        private long remaining;
+
+        SliceIterator(DequeView<E> upstream, long toSkip, long remaining) {
+            this.upstream = upstream;
+            this.toSkip = toSkip;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (remaining == 0L) {
+                return false;
+            }
+
+            if (upstreamIterator == null) {
+                upstreamIterator = upstream.iteratorSkipping(toSkip);
+            }
+
+            return upstreamIterator.hasNext();
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(
+                        "No more elements to iterate.");
+            }
+
+            remaining--;
+            return upstreamIterator.next();
+        }
+    }
+}
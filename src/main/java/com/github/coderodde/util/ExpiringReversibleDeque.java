@@ -0,0 +1,329 @@
+package com.github.coderodde.util;
+
+import java.time.Clock;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a time-ordered reversible deque. Each element carries
+ * the timestamp (in milliseconds) of its insertion, taken from a pluggable
+ * {@link Clock}, and new elements are always added at the newest end of the
+ * deque. This end is the last end of the deque, or the first end if the deque
+ * is reverted.
+ * <p>
+ * Since the timestamps are non-decreasing from the oldest end to the newest
+ * end, the expired elements always form a run at the oldest end. This run
+ * is the prefix of the deque, or the suffix if the deque is reverted.
+ * {@link #expireOlderThan(long)} detaches the whole run with a single relink.
+ * The oldest and the newest timestamps are available in constant time.
+ * <p>
+ * All the methods of this class are thread-safe, so that the deque may be
+ * swept in the background via
+ * {@link #scheduleSweeper(ScheduledExecutorService, long, long, TimeUnit)}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class ExpiringReversibleDeque<E> {
+
+    private static final class Node<E> {
+        E value;
+        final long timestamp;
+        Node<E> prev;
+        Node<E> next;
+
+        Node(E value, long timestamp) {
+            this.value = value;
+            this.timestamp = timestamp;
+        }
+    }
+
+    private final Clock clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int size;
+    private boolean reverted;
+
+    // The oldest node:
+    private Node<E> head;
+
+    // The newest node:
+    private Node<E> tail;
+
+    public ExpiringReversibleDeque() {
+        this(Clock.systemUTC());
+    }
+
+    public ExpiringReversibleDeque(Clock clock) {
+        this.clock = Objects.requireNonNull(clock, "clock is null.");
+    }
+
+    // O(1)!
+    public void revert() {
+        lock.lock();
+
+        try {
+            reverted = !reverted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReverted() {
+        lock.lock();
+
+        try {
+            return reverted;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Adds e at the newest end, timestamped with the current clock time. If
+    // the clock went backwards, the newest timestamp in this deque is used
+    // instead, so that the timestamps stay ordered.
+    public void add(E e) {
+        lock.lock();
+
+        try {
+            long now = clock.millis();
+            linkNewest(e, size == 0 ? now : Math.max(now, tail.timestamp));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Adds e at the newest end with the given timestamp, which may not be
+    // older than the newest timestamp in this deque.
+    public void add(E e, long timestamp) {
+        lock.lock();
+
+        try {
+            if (size > 0 && timestamp < tail.timestamp) {
+                throw new IllegalArgumentException(
+                        "timestamp = " + timestamp
+                        + " < newest timestamp = " + tail.timestamp);
+            }
+
+            linkNewest(e, timestamp);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E getFirst() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return reverted ? tail.value : head.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E getLast() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return reverted ? head.value : tail.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E removeFirst() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return reverted ? removeNewest() : removeOldest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E removeLast() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return reverted ? removeOldest() : removeNewest();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getOldestTimestamp() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return head.timestamp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getNewestTimestamp() {
+        lock.lock();
+
+        try {
+            checkNotEmpty();
+            return tail.timestamp;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all the elements whose timestamp is less than {@code time}.
+     *
+     * @param time the expiration time.
+     * @return the number of removed elements.
+     */
+    public int expireOlderThan(long time) {
+        lock.lock();
+
+        try {
+            Node<E> firstAlive = head;
+            int expired = 0;
+
+            while (firstAlive != null && firstAlive.timestamp < time) {
+                firstAlive = firstAlive.next;
+                expired++;
+            }
+
+            if (expired == 0) {
+                return 0;
+            }
+
+            // Detach the expired run at once:
+            if (firstAlive == null) {
+                head = tail = null;
+            } else {
+                firstAlive.prev.next = null;
+                firstAlive.prev = null;
+                head = firstAlive;
+            }
+
+            size -= expired;
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Removes all the elements older than 'ttlMillis' milliseconds.
+    public int expire(long ttlMillis) {
+        return expireOlderThan(clock.millis() - ttlMillis);
+    }
+
+    /**
+     * Schedules a task that removes, every {@code period} units of time, all
+     * the elements older than {@code ttl} units of time. Cancel the returned
+     * future in order to stop sweeping.
+     *
+     * @param executor the executor running the sweeps.
+     * @param ttl      the time to live of the elements.
+     * @param period   the time between two consecutive sweeps.
+     * @param unit     the time unit of {@code ttl} and {@code period}.
+     * @return the future of the periodic sweeping task.
+     */
+    public ScheduledFuture<?> scheduleSweeper(ScheduledExecutorService executor,
+                                              long ttl,
+                                              long period,
+                                              TimeUnit unit) {
+        long ttlMillis = unit.toMillis(ttl);
+
+        return executor.scheduleAtFixedRate(() -> expire(ttlMillis),
+                                            period,
+                                            period,
+                                            unit);
+    }
+
+    public int size() {
+        lock.lock();
+
+        try {
+            return size;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        lock.lock();
+
+        try {
+            head = tail = null;
+            size = 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called while holding the lock.
+    private void linkNewest(E e, long timestamp) {
+        Node<E> newNode = new Node<>(e, timestamp);
+
+        if (size == 0) {
+            head = tail = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+            tail = newNode;
+        }
+
+        size++;
+    }
+
+    private E removeOldest() {
+        Node<E> nodeToRemove = head;
+        E returnValue = nodeToRemove.value;
+
+        if (--size == 0) {
+            head = tail = null;
+        } else {
+            head = head.next;
+            head.prev = null;
+        }
+
+        // Help GC:
+        nodeToRemove.value = null;
+        nodeToRemove.next = null;
+        return returnValue;
+    }
+
+    private E removeNewest() {
+        Node<E> nodeToRemove = tail;
+        E returnValue = nodeToRemove.value;
+
+        if (--size == 0) {
+            head = tail = null;
+        } else {
+            tail = tail.prev;
+            tail.next = null;
+        }
+
+        // Help GC:
+        nodeToRemove.value = null;
+        nodeToRemove.prev = null;
+        return returnValue;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+    }
+}
@@ -0,0 +1,460 @@
+package com.github.coderodde.util;
+
+import java.util.AbstractCollection;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * This class implements a reversible deque that keeps a hash index from each
+ * element to the list nodes holding it. The index makes {@code contains},
+ * {@code remove(Object)}, {@code removeFirstOccurrence} and
+ * {@code removeLastOccurrence} run in expected constant time, while
+ * {@link #revert()} still runs in constant time.
+ * <p>
+ * For each element, the index stores its nodes in the same order as they
+ * appear in the underlying linked list. Since elements are only ever inserted
+ * at the ends of the list, the first (last) node of an element is always at
+ * the front (back) of its index entry.
+ * <p>
+ * If constructed with {@code moveOnReinsert} set, the deque holds no
+ * duplicates: adding an element that is already present moves it to the end
+ * it is added to, which is what LRU caches need.
+ * <p>
+ * The iterators support {@link Iterator#remove()}, which runs in expected
+ * time linear in the number of occurrences of the removed element, i.e., in
+ * expected constant time if the deque holds no duplicates. The bulk
+ * operations {@code toArray}, {@code removeAll}, {@code retainAll} and
+ * {@code toString} are those of {@link AbstractCollection}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class IndexedReversibleDeque<E> extends AbstractCollection<E>
+        implements Deque<E> {
+
+    private static final class Node<E> {
+        E value;
+        Node<E> prev;
+        Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+
+    private final Map<E, ArrayDeque<Node<E>>> index = new HashMap<>();
+    private final boolean moveOnReinsert;
+    private int size;
+    private int modCount;
+    private boolean reverted;
+    private Node<E> head;
+    private Node<E> tail;
+
+    public IndexedReversibleDeque() {
+        this(false);
+    }
+
+    public IndexedReversibleDeque(boolean moveOnReinsert) {
+        this.moveOnReinsert = moveOnReinsert;
+    }
+
+    // O(1)!
+    public void revert() {
+        reverted = !reverted;
+        modCount++;
+    }
+
+    public boolean isReverted() {
+        return reverted;
+    }
+
+    public boolean isMoveOnReinsert() {
+        return moveOnReinsert;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        if (reverted) {
+            appendNode(obtainNode(e));
+        } else {
+            prependNode(obtainNode(e));
+        }
+
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (reverted) {
+            prependNode(obtainNode(e));
+        } else {
+            appendNode(obtainNode(e));
+        }
+
+        modCount++;
+    }
+
+    @Override
+    public boolean offerFirst(E e) {
+        addFirst(e);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        return reverted ? removeTail() : removeHead();
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        return reverted ? removeHead() : removeTail();
+    }
+
+    @Override
+    public E pollFirst() {
+        return isEmpty() ? null : removeFirst();
+    }
+
+    @Override
+    public E pollLast() {
+        return isEmpty() ? null : removeLast();
+    }
+
+    @Override
+    public E getFirst() {
+        checkNotEmpty();
+        return reverted ? tail.value : head.value;
+    }
+
+    @Override
+    public E getLast() {
+        checkNotEmpty();
+        return reverted ? head.value : tail.value;
+    }
+
+    @Override
+    public E peekFirst() {
+        return isEmpty() ? null : getFirst();
+    }
+
+    @Override
+    public E peekLast() {
+        return isEmpty() ? null : getLast();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return removeOccurrence(o, !reverted);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        return removeOccurrence(o, reverted);
+    }
+
+    @Override
+    public boolean add(E e) {
+        addLast(e);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        return offerLast(e);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> c) {
+        for (E e : c) {
+            addLast(e);
+        }
+
+        return !c.isEmpty();
+    }
+
+    @Override
+    public void push(E e) {
+        addFirst(e);
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return removeFirstOccurrence(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return index.containsKey(o);
+    }
+
+    // Returns the number of occurrences of o in this deque.
+    public int count(Object o) {
+        ArrayDeque<Node<E>> nodes = index.get(o);
+        return nodes == null ? 0 : nodes.size();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator(!reverted);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new NodeIterator(reverted);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+        index.clear();
+
+        // Help GC:
+        for (Node<E> node = head; node != null;) {
+            Node<E> nextNode = node.next;
+            nullify(node);
+            node = nextNode;
+        }
+
+        head = tail = null;
+    }
+
+    // Returns a detached node for e, either a new one or, in the
+    // move-on-reinsert mode, the unlinked node already holding e.
+    private Node<E> obtainNode(E e) {
+        ArrayDeque<Node<E>> nodes = index.get(e);
+
+        if (nodes == null) {
+            nodes = new ArrayDeque<>(1);
+            index.put(e, nodes);
+        } else if (moveOnReinsert) {
+            Node<E> node = nodes.removeFirst();
+            unlink(node);
+            node.value = e;
+            return node;
+        }
+
+        return new Node<>(e);
+    }
+
+    private void prependNode(Node<E> newNode) {
+        index.get(newNode.value).addFirst(newNode);
+
+        if (size == 0) {
+            head = tail = newNode;
+        } else {
+            newNode.next = head;
+            head.prev = newNode;
+            head = newNode;
+        }
+
+        size++;
+    }
+
+    private void appendNode(Node<E> newNode) {
+        index.get(newNode.value).addLast(newNode);
+
+        if (size == 0) {
+            head = tail = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+            tail = newNode;
+        }
+
+        size++;
+    }
+
+    private E removeHead() {
+        Node<E> node = head;
+        E returnValue = node.value;
+        removeIndexEntry(node.value, true);
+        unlink(node);
+        modCount++;
+        nullify(node);
+        return returnValue;
+    }
+
+    private E removeTail() {
+        Node<E> node = tail;
+        E returnValue = node.value;
+        removeIndexEntry(node.value, false);
+        unlink(node);
+        modCount++;
+        nullify(node);
+        return returnValue;
+    }
+
+    private boolean removeOccurrence(Object o, boolean headmost) {
+        ArrayDeque<Node<E>> nodes = index.get(o);
+
+        if (nodes == null) {
+            return false;
+        }
+
+        Node<E> node = headmost ? nodes.removeFirst() : nodes.removeLast();
+
+        if (nodes.isEmpty()) {
+            index.remove(o);
+        }
+
+        unlink(node);
+        modCount++;
+        nullify(node);
+        return true;
+    }
+
+    private void removeIndexEntry(E value, boolean headmost) {
+        ArrayDeque<Node<E>> nodes = index.get(value);
+
+        if (headmost) {
+            nodes.removeFirst();
+        } else {
+            nodes.removeLast();
+        }
+
+        if (nodes.isEmpty()) {
+            index.remove(value);
+        }
+    }
+
+    // Unlinks the node from the list, but not from the index.
+    private void unlink(Node<E> node) {
+        if (node.prev == null) {
+            head = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next == null) {
+            tail = node.prev;
+        } else {
+            node.next.prev = node.prev;
+        }
+
+        node.prev = node.next = null;
+        size--;
+    }
+
+    private static <E> void nullify(Node<E> node) {
+        node.value = null;
+        node.prev = node.next = null;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+    }
+
+    private final class NodeIterator implements Iterator<E> {
+
+        private final boolean forward;
+        private int expectedModCount = modCount;
+        private Node<E> currentNode;
+        private Node<E> lastReturnedNode;
+
+        NodeIterator(boolean forward) {
+            this.forward = forward;
+            this.currentNode = forward ? head : tail;
+        }
+
+        @Override
+        public boolean hasNext() {
+            checkForConcurrentModification();
+            return currentNode != null;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(
+                        "No more elements to iterate.");
+            }
+
+            lastReturnedNode = currentNode;
+            currentNode = forward ? currentNode.next : currentNode.prev;
+            return lastReturnedNode.value;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturnedNode == null) {
+                throw new IllegalStateException(
+                        "No element to remove.");
+            }
+
+            checkForConcurrentModification();
+            E value = lastReturnedNode.value;
+            ArrayDeque<Node<E>> nodes = index.get(value);
+
+            // Nodes do not override equals, so this compares identities:
+            nodes.removeFirstOccurrence(lastReturnedNode);
+
+            if (nodes.isEmpty()) {
+                index.remove(value);
+            }
+
+            unlink(lastReturnedNode);
+            nullify(lastReturnedNode);
+            lastReturnedNode = null;
+            expectedModCount = ++modCount;
+        }
+
+        private void checkForConcurrentModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.github.coderodde.util;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.ConcurrentModificationException;
 import java.util.Deque;
 import java.util.Iterator;
@@ -11,6 +12,15 @@ import java.util.NoSuchElementException;
 /**
  * This class implements the {@link java.util.Deque} interface via a 
  * doubly-linked list. It runs the reversal operation in constant time.
+ * <p>
+ * The deque keeps its two end nodes in an array indexed by direction, and
+ * the links of a node are read and written by direction, too. Direction 
+ * {@code orientation} leads from the logically first end towards the 
+ * logically last end, and direction {@code orientation ^ 1} leads back. Since
+ * {@link #revert()} only flips {@code orientation}, every operation runs a
+ * single code path that indexes by it instead of dispatching to mirrored 
+ * method pairs. The links themselves stay plain fields, so that adding an 
+ * element allocates one node and nothing else.
  *
  * @author Rodion "rodde" Efremov
  * @version 1.6 (Jan 16, 2022)
@@ -18,6 +28,11 @@ import java.util.NoSuchElementException;
  */
 public class ReversibleDeque<E> implements Deque<E>, List<E> {
 
+    // The physical directions. 'ends[NEXT]' is the end reached by following
+    // the 'next' pointers.
+    private static final int PREV = 0;
+    private static final int NEXT = 1;
+    
     private static final class Node<E> {
         E value;
         Node<E> prev;
@@ -30,25 +45,43 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
     
     private int size;
     private int modCount;
-    private boolean reverted;
-    private Node<E> head;
-    private Node<E> tail;
+    
+    // NEXT if not reverted, PREV if reverted:
+    private int orientation = NEXT;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Node<E>[] ends = new Node[2];
     
     // O(1)!
     public void revert() {
-        reverted = !reverted;
+        orientation ^= 1;
         modCount++;
     }
     
     public boolean isReverted() {
-        return reverted;
+        return orientation == PREV;
+    }
+
+    // Returns a lazy view of this deque; see DequeView.
+    public DequeView<E> view() {
+        return DequeView.of(this);
     }
 
     @Override
     public E get(int index) {
         checkNotEmpty();
         checkAccessIndex(index);
-        return reverted ? getReverted(index) : getNonReverted(index);
+        
+        // Walk from the closer end:
+        int direction = index > size / 2 ? orientation ^ 1 : orientation;
+        int steps = index > size / 2 ? size - index - 1 : index;
+        Node<E> node = ends[direction ^ 1];
+        
+        while (steps-- > 0) {
+            node = getLink(node, direction);
+        }
+        
+        return node.value;
     }
 
     @Override
@@ -96,32 +129,160 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
         throw new UnsupportedOperationException();
     }
     
-    @Override
-    public void addFirst(E e) {
-        Node<E> newNode = new Node<>(e);
+    /**
+     * Sorts this deque stably in {@code O(n log n)} time by relinking its
+     * nodes. No nodes or arrays are allocated. After sorting, iterating this
+     * deque from its (logically) first element yields the elements in the
+     * order imposed by {@code c}, regardless of whether it is reverted.
+     * 
+     * @param c the comparator, or {@code null} for natural ordering.
+     */
+    @Override
+    public void sort(Comparator<? super E> c) {
+        modCount++;
         
-        if (reverted) {
-            addFirstReverted(newNode);
-        } else {
-            addFirstNonReverted(newNode);
+        if (size < 2) {
+            return;
         }
         
-        size++;
-        modCount++;
+        Comparator<? super E> comparator = getComparator(c);
+        int forward = orientation;
+        Node<E> list = ends[forward ^ 1];
+        
+        // Bottom-up merge sort of the singly-linked chain that starts at the
+        // logically first node and follows the links in direction 'forward':
+        for (int width = 1;; width *= 2) {
+            Node<E> p = list;
+            Node<E> mergedTail = null;
+            int merges = 0;
+            list = null;
+            
+            while (p != null) {
+                merges++;
+                Node<E> q = p;
+                int pSize = 0;
+                
+                while (pSize < width && q != null) {
+                    pSize++;
+                    q = getLink(q, forward);
+                }
+                
+                int qSize = width;
+                
+                while (pSize > 0 || (qSize > 0 && q != null)) {
+                    Node<E> node;
+                    
+                    if (pSize == 0) {
+                        node = q;
+                        q = getLink(q, forward);
+                        qSize--;
+                    } else if (qSize == 0 
+                            || q == null 
+                            || comparator.compare(p.value, q.value) <= 0) {
+                        node = p;
+                        p = getLink(p, forward);
+                        pSize--;
+                    } else {
+                        node = q;
+                        q = getLink(q, forward);
+                        qSize--;
+                    }
+                    
+                    if (mergedTail == null) {
+                        list = node;
+                    } else {
+                        setLink(mergedTail, forward, node);
+                    }
+                    
+                    mergedTail = node;
+                }
+                
+                p = q;
+            }
+            
+            setLink(mergedTail, forward, null);
+            
+            if (merges == 1) {
+                break;
+            }
+        }
+        
+        relinkBackwardPointers(list);
     }
     
-    @Override
-    public void addLast(E e) {
-        Node<E> newNode = new Node<>(e);
+    /**
+     * Merges {@code other} into this deque in linear time by splicing the 
+     * nodes of {@code other} into this deque. Both deques must be sorted 
+     * (from their logically first element on) with respect to {@code c}. The
+     * merge is stable: of two equal elements, the one from this deque comes 
+     * first. After the merge, {@code other} is empty; it is emptied via its
+     * {@link #clear()} method.
+     * 
+     * @param other the other sorted deque.
+     * @param c     the comparator, or {@code null} for natural ordering.
+     */
+    public void mergeSorted(ReversibleDeque<E> other, Comparator<? super E> c) {
+        if (other == this) {
+            throw new IllegalArgumentException(
+                    "Cannot merge a deque with itself.");
+        }
         
-        if (reverted) {
-            addLastReverted(newNode);
-        } else {
-            addLastNonReverted(newNode);
+        Comparator<? super E> comparator = getComparator(c);
+        int forward = orientation;
+        int otherForward = other.orientation;
+        Node<E> a = ends[forward ^ 1];
+        Node<E> b = other.ends[otherForward ^ 1];
+        Node<E> first = null;
+        Node<E> last = null;
+        
+        while (a != null || b != null) {
+            Node<E> node;
+            
+            if (b == null 
+                    || (a != null 
+                    && comparator.compare(a.value, b.value) <= 0)) {
+                node = a;
+                a = getLink(a, forward);
+            } else {
+                node = b;
+                b = getLink(b, otherForward);
+            }
+            
+            // Link 'node' after 'last' in the logical order of this deque:
+            if (last == null) {
+                first = node;
+            } else {
+                setLink(last, forward, node);
+                setLink(node, forward ^ 1, last);
+            }
+            
+            last = node;
         }
         
-        size++;
+        if (last != null) {
+            setLink(first, forward ^ 1, null);
+            setLink(last, forward, null);
+            ends[forward ^ 1] = first;
+            ends[forward] = last;
+        }
+        
+        size += other.size;
         modCount++;
+        
+        // The nodes of 'other' belong to this deque now. Detach them before
+        // emptying 'other' via clear(), so that subclasses observe it:
+        other.ends[PREV] = other.ends[NEXT] = null;
+        other.clear();
+    }
+    
+    @Override
+    public void addFirst(E e) {
+        linkAtEnd(new Node<>(e), orientation ^ 1);
+    }
+    
+    @Override
+    public void addLast(E e) {
+        linkAtEnd(new Node<>(e), orientation);
     }
 
     @Override
@@ -137,17 +298,13 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
     @Override
     public E removeFirst() {
         checkNotEmpty();
-        size--;
-        modCount++;
-        return reverted ? removeFirstReverted() : removeFirstNonReverted();
+        return unlinkAtEnd(orientation ^ 1);
     }
 
     @Override
     public E removeLast() {
         checkNotEmpty();
-        size--;
-        modCount++;
-        return reverted ? removeLastReverted() : removeLastNonReverted();
+        return unlinkAtEnd(orientation);
     }
 
     @Override
@@ -163,13 +320,13 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
     @Override
     public E getFirst() {
         checkNotEmpty();
-        return reverted ? tail.value : head.value;
+        return ends[orientation ^ 1].value;
     }
 
     @Override
     public E getLast() {
         checkNotEmpty();
-        return reverted ? head.value : tail.value;
+        return ends[orientation].value;
     }
 
     @Override
@@ -254,12 +411,12 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
 
     @Override
     public Iterator<E> iterator() {
-        return reverted ? new BackwardIterator() : new ForwardIterator();
+        return new NodeIterator(orientation);
     }
 
     @Override
     public Iterator<E> descendingIterator() {
-        return reverted ? new ForwardIterator() : new BackwardIterator();
+        return new NodeIterator(orientation ^ 1);
     }
 
     @Override
@@ -298,97 +455,87 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
         modCount++;
         
         // Help GC:
-        for (Node<E> node = head; node != null;) {
-            Node<E> nextNode = node.next;
+        for (Node<E> node = ends[PREV]; node != null;) {
+            Node<E> nextNode = getLink(node, NEXT);
             nullify(node);
             node = nextNode;
         }
         
-        head = tail = null;
-    }
-    
-    private void prependNode(Node<E> newNode) {
-        if (size == 0) {
-            head = tail = newNode;
-        } else {
-            newNode.next = head;
-            head.prev = newNode;
-            head = newNode;
-        }
-    }
-
-    private void appendNode(Node<E> newNode) {
-        if (size == 0) {
-            head = tail = newNode;
-        } else {
-            newNode.prev = tail;
-            tail.next = newNode;
-            tail = newNode;
-        }
+        ends[PREV] = ends[NEXT] = null;
     }
     
-    private void addFirstReverted(Node<E> newNode) {
-        appendNode(newNode);
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> 
+        getComparator(Comparator<? super E> c) {
+        return c != null ? c : (Comparator<? super E>) Comparator.naturalOrder();
     }
     
-    private void addFirstNonReverted(Node<E> newNode) {
-        prependNode(newNode);
-    }
-    
-    private void addLastReverted(Node<E> newNode) {
-        prependNode(newNode);
-    }
-    
-    private void addLastNonReverted(Node<E> newNode) {
-        appendNode(newNode);
+    // Sets the backward links along the chain starting at 'first' and 
+    // following the forward links, and makes the chain the list.
+    private void relinkBackwardPointers(Node<E> first) {
+        int forward = orientation;
+        Node<E> previous = null;
+        
+        for (Node<E> node = first; 
+                node != null; 
+                node = getLink(node, forward)) {
+            setLink(node, forward ^ 1, previous);
+            previous = node;
+        }
+        
+        ends[forward ^ 1] = first;
+        ends[forward] = previous;
     }
     
-    private E removeHeadImpl() {
-        Node<E> nodeToRemove = head;
-        E returnValue = nodeToRemove.value;
+    // Makes 'newNode' the new end node 'ends[end]'.
+    private void linkAtEnd(Node<E> newNode, int end) {
+        Node<E> oldEnd = ends[end];
         
-        if (size == 0) {
-            head = tail = null;
+        if (oldEnd == null) {
+            ends[end ^ 1] = newNode;
         } else {
-            head = head.next;
-            head.prev = null;
+            setLink(newNode, end ^ 1, oldEnd);
+            setLink(oldEnd, end, newNode);
         }
         
-        // Help GC:
-        nullify(nodeToRemove);
-        return returnValue;
+        ends[end] = newNode;
+        size++;
+        modCount++;
     }
     
-    private E removeTailImpl() {
-        Node<E> nodeToRemove = tail;
+    // Removes the end node 'ends[end]' from a non-empty list.
+    private E unlinkAtEnd(int end) {
+        Node<E> nodeToRemove = ends[end];
+        Node<E> newEnd = getLink(nodeToRemove, end ^ 1);
         E returnValue = nodeToRemove.value;
         
-        if (size == 0) {
-            head = tail = null;
+        if (newEnd == null) {
+            ends[end ^ 1] = null;
         } else {
-            tail = tail.prev;
-            tail.next = null;
+            setLink(newEnd, end, null);
         }
         
+        ends[end] = newEnd;
+        size--;
+        modCount++;
+        
         // Help GC:
         nullify(nodeToRemove);
         return returnValue;
     }
     
-    private E removeFirstReverted() {
-        return removeTailImpl();
-    }
-    
-    private E removeFirstNonReverted() {
-        return removeHeadImpl();
+    private static <E> Node<E> getLink(Node<E> node, int direction) {
+        return direction == NEXT ? node.next : node.prev;
     }
     
-    private E removeLastReverted() {
-        return removeHeadImpl();
-    }
-    
-    private E removeLastNonReverted() {
-        return removeTailImpl();
+    private static <E> void setLink(Node<E> node, 
+                                    int direction, 
+                                    Node<E> link) {
+        if (direction == NEXT) {
+            node.next = link;
+        } else {
+            node.prev = link;
+        }
     }
     
     private static <E> void nullify(Node<E> node) {
@@ -413,47 +560,17 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
         }
     }
     
-    private E getForward(int index) {
-        Node<E> node = head;
-        
-        while (index-- > 0) {
-            node = node.next;
-        }
-        
-        return node.value;
-    }
-    
-    private E getBackward(int index) {
-        Node<E> node = tail;
-        
-        while (index-- > 0) {
-            node = node.prev;
-        }
+    private class NodeIterator implements Iterator<E> {
+
+        private final int expectedModCount = ReversibleDeque.this.modCount;
+        private final int direction;
+        private Node<E> currentNode;
+        private int iterated;
         
-        return node.value;
-    }
-    
-    private E getReverted(int index) {
-        if (index > size / 2) {
-            return getForward(size - index - 1);
-        } else {
-            return getBackward(index);
+        NodeIterator(int direction) {
+            this.direction = direction;
+            this.currentNode = ReversibleDeque.this.ends[direction ^ 1];
         }
-    }
-    
-    private E getNonReverted(int index) {
-        if (index > size / 2) {
-            return getBackward(size - index - 1);
-        } else {
-            return getForward(index);
-        }
-    }
-    
-    private class ForwardIterator implements Iterator<E> {
-
-        protected final int expectedModCount = ReversibleDeque.this.modCount;
-        protected Node<E> currentNode = ReversibleDeque.this.head;
-        protected int iterated;
         
         @Override
         public boolean hasNext() {
@@ -472,34 +589,14 @@ public class ReversibleDeque<E> implements Deque<E>, List<E> {
             
             iterated++;
             E value = currentNode.value;
-            currentNode = currentNode.next;
+            currentNode = getLink(currentNode, direction);
             return value;
         }
         
-        protected void checkForConcurrentModification() {
+        private void checkForConcurrentModification() {
             if (modCount != expectedModCount) {
                 throw new ConcurrentModificationException();
             }
         }
     }
-    
-    private class BackwardIterator extends ForwardIterator {
-
-        private Node<E> currentNode = ReversibleDeque.this.tail;
-        
-        @Override
-        public E next() {
-            checkForConcurrentModification();
-            
-            if (!hasNext()) {
-                throw new NoSuchElementException(
-                        "No more elements to iterate.");
-            }
-            
-            iterated++;
-            E value = currentNode.value;
-            currentNode = currentNode.prev;
-            return value;
-        }
-    }
 }
@@ -0,0 +1,429 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a {@link Flow.Publisher} that emits the elements of a
+ * {@link ReversibleDeque} to a single subscriber. Each emitted element is
+ * removed from the front of the deque, so that the emission order follows the
+ * current {@code reverted} state of the deque. Elements are only removed when
+ * the subscriber has requested them, and they are removed in batches of at
+ * most {@code batchSize} elements per lock acquisition. Elements that were not
+ * requested yet stay in the deque, and so do the elements of a batch that
+ * could not be delivered because the subscriber cancelled or its
+ * {@code onNext} threw; in the latter case, the subscription is cancelled.
+ * <p>
+ * The publisher is bounded: it holds at most {@code capacity} elements that
+ * have not been delivered yet, counting the batch being emitted. When it is
+ * full, {@link #offerFirst(Object)} and {@link #offerLast(Object)} return
+ * {@code false}, {@link #putFirst(Object)} and {@link #putLast(Object)} wait
+ * until the subscriber has taken a batch, and {@link #addFirst(Object)} and
+ * {@link #addLast(Object)} throw an {@link IllegalStateException}. Together
+ * with the capacity of a {@link ReversibleDequeSubscriber}, this bounds the
+ * number of buffered elements between a producer and a consumer.
+ * <p>
+ * All the methods of this class are thread-safe. Calling {@link #close()}
+ * completes the subscriber as soon as the deque has been drained.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class ReversibleDequePublisher<E>
+        implements Flow.Publisher<E>, AutoCloseable {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final ReversibleDeque<E> deque = new ReversibleDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final Executor executor;
+    private final int batchSize;
+    private final int capacity;
+    private volatile DequeSubscription subscription;
+    private volatile boolean closed;
+
+    // The number of elements removed from 'deque' but not delivered yet:
+    private int emitting;
+
+    public ReversibleDequePublisher() {
+        this(ForkJoinPool.commonPool(), DEFAULT_BATCH_SIZE, DEFAULT_CAPACITY);
+    }
+
+    public ReversibleDequePublisher(Executor executor, int batchSize) {
+        this(executor, batchSize, DEFAULT_CAPACITY);
+    }
+
+    public ReversibleDequePublisher(Executor executor,
+                                    int batchSize,
+                                    int capacity) {
+        this.executor = Objects.requireNonNull(executor, "executor is null.");
+        this.batchSize = checkBatchSize(batchSize);
+        this.capacity = checkCapacity(capacity);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is null.");
+        lock.lock();
+
+        try {
+            if (subscription != null) {
+                subscriber.onSubscribe(new DequeSubscription(null));
+                subscriber.onError(
+                        new IllegalStateException(
+                                "The publisher already has a subscriber."));
+                return;
+            }
+
+            subscription = new DequeSubscription(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        DequeSubscription newSubscription = subscription;
+        subscriber.onSubscribe(newSubscription);
+
+        // Rule 1.9: no other signal may precede onSubscribe.
+        newSubscription.started = true;
+        drain();
+    }
+
+    // Throws IllegalStateException if the publisher is full.
+    public void addFirst(E e) {
+        if (!offerFirst(e)) {
+            throw new IllegalStateException("The publisher is full.");
+        }
+    }
+
+    // Throws IllegalStateException if the publisher is full.
+    public void addLast(E e) {
+        if (!offerLast(e)) {
+            throw new IllegalStateException("The publisher is full.");
+        }
+    }
+
+    // Returns false if the publisher is full.
+    public boolean offerFirst(E e) {
+        return offer(e, true);
+    }
+
+    // Returns false if the publisher is full.
+    public boolean offerLast(E e) {
+        return offer(e, false);
+    }
+
+    // Waits while the publisher is full.
+    public void putFirst(E e) throws InterruptedException {
+        put(e, true);
+    }
+
+    // Waits while the publisher is full.
+    public void putLast(E e) throws InterruptedException {
+        put(e, false);
+    }
+
+    public void revert() {
+        lock.lock();
+
+        try {
+            deque.revert();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReverted() {
+        lock.lock();
+
+        try {
+            return deque.isReverted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // Returns the number of elements not emitted yet.
+    public int size() {
+        lock.lock();
+
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        lock.lock();
+
+        try {
+            closed = true;
+
+            // Let the waiting producers fail:
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        drain();
+    }
+
+    private boolean offer(E e, boolean atFront) {
+        lock.lock();
+
+        try {
+            checkNotClosed();
+
+            if (isFull()) {
+                return false;
+            }
+
+            link(e, atFront);
+        } finally {
+            lock.unlock();
+        }
+
+        drain();
+        return true;
+    }
+
+    private void put(E e, boolean atFront) throws InterruptedException {
+        lock.lockInterruptibly();
+
+        try {
+            checkNotClosed();
+
+            while (isFull()) {
+                notFull.await();
+                checkNotClosed();
+            }
+
+            link(e, atFront);
+        } finally {
+            lock.unlock();
+        }
+
+        drain();
+    }
+
+    // Must be called while holding the lock.
+    private boolean isFull() {
+        return deque.size() + emitting >= capacity;
+    }
+
+    // Must be called while holding the lock.
+    private void link(E e, boolean atFront) {
+        if (atFront) {
+            deque.addFirst(e);
+        } else {
+            deque.addLast(e);
+        }
+    }
+
+    // Does nothing until onSubscribe has returned; subscribe() drains then.
+    private void drain() {
+        DequeSubscription currentSubscription = subscription;
+
+        if (currentSubscription != null
+                && currentSubscription.started
+                && workInProgress.getAndIncrement() == 0) {
+            executor.execute(currentSubscription::drainLoop);
+        }
+    }
+
+    private List<E> removeBatch(int maximumBatchSize) {
+        lock.lock();
+
+        try {
+            int count = Math.min(maximumBatchSize, deque.size());
+            List<E> batch = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                batch.add(deque.removeFirst());
+            }
+
+            emitting = count;
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Puts the undelivered elements batch[from], batch[from + 1], ... back to
+    // the front of the deque in their original order, and frees the space of
+    // the delivered ones.
+    private void finishBatch(List<E> batch, int from) {
+        lock.lock();
+
+        try {
+            for (int i = batch.size() - 1; i >= from; i--) {
+                deque.addFirst(batch.get(i));
+            }
+
+            emitting = 0;
+
+            if (from > 0) {
+                notFull.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isDrained() {
+        lock.lock();
+
+        try {
+            return closed && deque.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("The publisher is closed.");
+        }
+    }
+
+    private static int checkBatchSize(int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException(
+                    "batchSize = " + batchSize + " < 1");
+        }
+
+        return batchSize;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "capacity = " + capacity + " < 1");
+        }
+
+        return capacity;
+    }
+
+    private final class DequeSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super E> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private volatile boolean cancelled;
+        private volatile Throwable requestError;
+        private volatile boolean started;
+        private boolean terminated;
+
+        DequeSubscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (subscriber == null) {
+                return;
+            }
+
+            if (n <= 0L) {
+                requestError = new IllegalArgumentException(
+                        "Non-positive request: " + n);
+            } else {
+                demand.getAndUpdate(d -> d + n < 0L ? Long.MAX_VALUE : d + n);
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        // Only ever run by one thread at a time; see drain().
+        void drainLoop() {
+            int missed = 1;
+
+            while (true) {
+                if (!terminated) {
+                    emit();
+                }
+
+                missed = workInProgress.addAndGet(-missed);
+
+                if (missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        private void emit() {
+            if (requestError != null) {
+                terminate();
+                subscriber.onError(requestError);
+                return;
+            }
+
+            long requested = demand.get();
+
+            while (requested > 0L && !cancelled) {
+                List<E> batch =
+                        removeBatch((int) Math.min(requested, batchSize));
+
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                for (int i = 0; i < batch.size(); i++) {
+                    if (cancelled) {
+                        finishBatch(batch, i);
+                        terminate();
+                        return;
+                    }
+
+                    try {
+                        subscriber.onNext(batch.get(i));
+                    } catch (Throwable throwable) {
+                        // The subscriber violated rule 2.13. Consider the
+                        // subscription cancelled, and keep the elements that
+                        // were not delivered:
+                        finishBatch(batch, i + 1);
+                        terminate();
+                        return;
+                    }
+                }
+
+                finishBatch(batch, batch.size());
+
+                requested = demand.addAndGet(-batch.size());
+            }
+
+            if (cancelled) {
+                terminate();
+            } else if (isDrained()) {
+                terminate();
+                subscriber.onComplete();
+            }
+        }
+
+        private void terminate() {
+            terminated = true;
+            cancelled = true;
+        }
+    }
+}
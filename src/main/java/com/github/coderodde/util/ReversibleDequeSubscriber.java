@@ -0,0 +1,261 @@
+package com.github.coderodde.util;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a {@link Flow.Subscriber} that buffers the received
+ * elements in a {@link ReversibleDeque}. The number of buffered elements plus
+ * the number of requested but not yet received elements never exceeds the
+ * capacity given at construction time. Whenever the consumer has freed at
+ * least half of the capacity, the free space is requested from the upstream
+ * publisher in a single {@code request(n)} call.
+ * <p>
+ * All the methods of this class are thread-safe.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class ReversibleDequeSubscriber<E> implements Flow.Subscriber<E> {
+
+    private final ReversibleDeque<E> deque = new ReversibleDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmptyOrDone = lock.newCondition();
+    private final int capacity;
+    private Flow.Subscription subscription;
+    private long outstanding;
+    private boolean completed;
+    private Throwable error;
+
+    public ReversibleDequeSubscriber(int capacity) {
+        this.capacity = checkCapacity(capacity);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription is null.");
+        lock.lock();
+
+        try {
+            if (this.subscription != null) {
+                subscription.cancel();
+                return;
+            }
+
+            this.subscription = subscription;
+            outstanding = capacity;
+        } finally {
+            lock.unlock();
+        }
+
+        subscription.request(capacity);
+    }
+
+    @Override
+    public void onNext(E item) {
+        Flow.Subscription subscriptionToCancel = null;
+        lock.lock();
+
+        try {
+            if (completed || error != null) {
+                return;
+            }
+
+            if (outstanding == 0L) {
+                // Rule 2.13 forbids throwing; fail the stream instead:
+                error = new IllegalStateException(
+                        "Received an element that was not requested.");
+                subscriptionToCancel = subscription;
+                notEmptyOrDone.signalAll();
+            } else {
+                outstanding--;
+                deque.addLast(item);
+                notEmptyOrDone.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (subscriptionToCancel != null) {
+            subscriptionToCancel.cancel();
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        lock.lock();
+
+        try {
+            error = throwable;
+            notEmptyOrDone.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        lock.lock();
+
+        try {
+            completed = true;
+            notEmptyOrDone.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns null if there is no buffered element.
+    public E pollFirst() {
+        return poll(true);
+    }
+
+    // Returns null if there is no buffered element.
+    public E pollLast() {
+        return poll(false);
+    }
+
+    // Throws NoSuchElementException if the upstream is done and drained.
+    public E takeFirst() throws InterruptedException {
+        return take(true);
+    }
+
+    // Throws NoSuchElementException if the upstream is done and drained.
+    public E takeLast() throws InterruptedException {
+        return take(false);
+    }
+
+    public void revert() {
+        lock.lock();
+
+        try {
+            deque.revert();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReverted() {
+        lock.lock();
+
+        try {
+            return deque.isReverted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+
+        try {
+            return deque.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isCompleted() {
+        lock.lock();
+
+        try {
+            return completed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Throwable getError() {
+        lock.lock();
+
+        try {
+            return error;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private E poll(boolean fromFront) {
+        E e;
+        long toRequest;
+        lock.lock();
+
+        try {
+            if (deque.isEmpty()) {
+                return null;
+            }
+
+            e = fromFront ? deque.removeFirst() : deque.removeLast();
+            toRequest = computeRequestAmount();
+        } finally {
+            lock.unlock();
+        }
+
+        if (toRequest > 0L) {
+            subscription.request(toRequest);
+        }
+
+        return e;
+    }
+
+    private E take(boolean fromFront) throws InterruptedException {
+        E e;
+        long toRequest;
+        lock.lock();
+
+        try {
+            while (deque.isEmpty()) {
+                if (completed || error != null) {
+                    throw new NoSuchElementException(
+                            "The upstream publisher is done.");
+                }
+
+                notEmptyOrDone.await();
+            }
+
+            e = fromFront ? deque.removeFirst() : deque.removeLast();
+            toRequest = computeRequestAmount();
+        } finally {
+            lock.unlock();
+        }
+
+        if (toRequest > 0L) {
+            subscription.request(toRequest);
+        }
+
+        return e;
+    }
+
+    // Must be called while holding the lock.
+    private long computeRequestAmount() {
+        if (completed || error != null) {
+            return 0L;
+        }
+
+        long free = capacity - deque.size() - outstanding;
+
+        if (free < (capacity + 1) / 2) {
+            return 0L;
+        }
+
+        outstanding += free;
+        return free;
+    }
+
+    private static int checkCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "capacity = " + capacity + " < 1");
+        }
+
+        return capacity;
+    }
+}
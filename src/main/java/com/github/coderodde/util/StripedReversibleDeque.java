@@ -0,0 +1,214 @@
+package com.github.coderodde.util;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class implements a thread-safe reversible deque that is split into
+ * several independent lanes. Each lane is a {@link ReversibleDeque} guarded by
+ * its own lock. Each thread is assigned a single lane on its first insertion,
+ * round-robin over the lanes, so that up to as many producer threads as there
+ * are lanes never contend with each other.
+ * <p>
+ * The ordering guarantees are relaxed: the elements added by a single thread
+ * keep their relative order (they all land in the same lane), but there is no
+ * ordering between elements added by different threads. Consumers visit the
+ * lanes in round-robin order and remove from the first non-empty lane they
+ * find. {@link #revert()} locks all the lanes and reverts them at once, so no
+ * consumer can observe a partially reverted deque. {@link #size()} is only
+ * weakly consistent under concurrent modification. Null elements are
+ * rejected, since {@code null} is what the poll methods return on an empty
+ * deque.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public class StripedReversibleDeque<E> {
+
+    private final ReversibleDeque<E>[] lanes;
+    private final ReentrantLock[] locks;
+    private final AtomicInteger removalCursor = new AtomicInteger();
+    private final AtomicInteger laneAssignmentCursor = new AtomicInteger();
+    private final ThreadLocal<Integer> laneIndexOfCurrentThread;
+    private volatile boolean reverted;
+
+    public StripedReversibleDeque() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StripedReversibleDeque(int laneCount) {
+        checkLaneCount(laneCount);
+        lanes = new ReversibleDeque[laneCount];
+        locks = new ReentrantLock[laneCount];
+
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = new ReversibleDeque<>();
+            locks[i] = new ReentrantLock();
+        }
+
+        laneIndexOfCurrentThread = ThreadLocal.withInitial(
+                () -> Math.floorMod(laneAssignmentCursor.getAndIncrement(),
+                                    laneCount));
+    }
+
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    // Locks all lanes, O(number of lanes).
+    public void revert() {
+        lockAll();
+
+        try {
+            for (ReversibleDeque<E> lane : lanes) {
+                lane.revert();
+            }
+
+            reverted = !reverted;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    public boolean isReverted() {
+        return reverted;
+    }
+
+    public void addFirst(E e) {
+        Objects.requireNonNull(e, "e is null.");
+        int laneIndex = getLaneIndexOfCurrentThread();
+        ReentrantLock lock = locks[laneIndex];
+        lock.lock();
+
+        try {
+            lanes[laneIndex].addFirst(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void addLast(E e) {
+        Objects.requireNonNull(e, "e is null.");
+        int laneIndex = getLaneIndexOfCurrentThread();
+        ReentrantLock lock = locks[laneIndex];
+        lock.lock();
+
+        try {
+            lanes[laneIndex].addLast(e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public E removeFirst() {
+        E e = pollFirst();
+
+        if (e == null) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+
+        return e;
+    }
+
+    public E removeLast() {
+        E e = pollLast();
+
+        if (e == null) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+
+        return e;
+    }
+
+    public E pollFirst() {
+        return poll(true);
+    }
+
+    public E pollLast() {
+        return poll(false);
+    }
+
+    public int size() {
+        int size = 0;
+
+        for (int i = 0; i < lanes.length; i++) {
+            locks[i].lock();
+
+            try {
+                size += lanes[i].size();
+            } finally {
+                locks[i].unlock();
+            }
+        }
+
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public void clear() {
+        lockAll();
+
+        try {
+            for (ReversibleDeque<E> lane : lanes) {
+                lane.clear();
+            }
+        } finally {
+            unlockAll();
+        }
+    }
+
+    private E poll(boolean fromFront) {
+        int startLaneIndex =
+                Math.floorMod(removalCursor.getAndIncrement(), lanes.length);
+
+        for (int i = 0; i < lanes.length; i++) {
+            int laneIndex = (startLaneIndex + i) % lanes.length;
+            ReentrantLock lock = locks[laneIndex];
+            lock.lock();
+
+            try {
+                ReversibleDeque<E> lane = lanes[laneIndex];
+
+                if (!lane.isEmpty()) {
+                    return fromFront ? lane.removeFirst() : lane.removeLast();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        return null;
+    }
+
+    // Package-private for testing.
+    int getLaneIndexOfCurrentThread() {
+        return laneIndexOfCurrentThread.get();
+    }
+
+    // Always locks in ascending lane order in order to avoid deadlocks.
+    private void lockAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    private static void checkLaneCount(int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException(
+                    "laneCount = " + laneCount + " < 1");
+        }
+    }
+}
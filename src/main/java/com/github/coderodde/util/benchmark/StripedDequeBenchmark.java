@@ -0,0 +1,93 @@
+package com.github.coderodde.util.benchmark;
+
+import com.github.coderodde.util.StripedReversibleDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This class measures the throughput of {@link StripedReversibleDeque} with a
+ * single lane (effectively one locked deque) and with one lane per core, for
+ * 1, 2, 4, ... threads and finally for as many threads as there are available
+ * cores. Each thread repeatedly adds a batch of {@value #BATCH_SIZE} elements
+ * and then polls as many, so that the deque never holds more than
+ * {@code threads * BATCH_SIZE} elements and the heap stays small whatever the
+ * core count. All the added elements are the same object.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+public final class StripedDequeBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BATCHES_PER_THREAD = 1_000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final Integer ELEMENT = 1;
+
+    public static void main(String[] args) throws InterruptedException {
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(1, cores);
+            run(cores, cores);
+        }
+
+        System.out.printf("%8s %20s %20s%n",
+                          "Threads",
+                          "1 lane (ops/ms)",
+                          cores + " lanes (ops/ms)");
+
+        for (int threads = 1;
+             threads <= cores;
+             threads = getNextThreadCount(threads, cores)) {
+            System.out.printf("%8d %20.1f %20.1f%n",
+                              threads,
+                              run(1, threads),
+                              run(cores, threads));
+        }
+    }
+
+    // Doubles the thread count, but never skips the core count itself.
+    private static int getNextThreadCount(int threads, int cores) {
+        return threads < cores ? Math.min(2 * threads, cores) : cores + 1;
+    }
+
+    // Returns the number of additions and polls per millisecond.
+    private static double run(int laneCount, int threadCount)
+            throws InterruptedException {
+
+        StripedReversibleDeque<Integer> deque =
+                new StripedReversibleDeque<>(laneCount);
+
+        List<Thread> threads = new ArrayList<>(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(new Thread(() -> {
+                for (int batch = 0; batch < BATCHES_PER_THREAD; batch++) {
+                    for (int j = 0; j < BATCH_SIZE; j++) {
+                        deque.addLast(ELEMENT);
+                    }
+
+                    for (int j = 0; j < BATCH_SIZE; j++) {
+                        deque.pollFirst();
+                    }
+                }
+            }));
+        }
+
+        long startTime = System.nanoTime();
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long endTime = System.nanoTime();
+        double milliseconds = (endTime - startTime) / 1e6;
+        return 2.0 * threadCount * BATCHES_PER_THREAD * BATCH_SIZE
+                / milliseconds;
+    }
+}
@@ -1,20 +1,10 @@
 package com.github.coderodde.util.dequeapp;
 
 import com.github.coderodde.util.ReversibleDeque;
+import java.util.Iterator;
 
 public class Application {
 
-    private static final class CommandNames {
-        static final String ADD_FIRST    = "af";
-        static final String ADD_LAST     = "al";
-        static final String GET_FIRST    = "gf";
-        static final String GET_LAST     = "gl";
-        static final String REMOVE_FIRST = "rf";
-        static final String REMOVE_LAST  = "rl";
-        static final String REVERT       = "rev";
-        static final String IS_REVERTED  = "reverted";
-    }
-    
     private final ReversibleDeque<String> deque = new ReversibleDeque<>();
 
     public void processCommand(String[] tokens) {
@@ -121,6 +111,18 @@ public class Application {
                 commandRemoveLast();
                 break;
                 
+            case CommandNames.ITERATE:
+                printDeque();
+                break;
+                
+            case CommandNames.DESCENDING_ITERATE:
+                commandIterate(deque.descendingIterator(), Integer.MAX_VALUE);
+                break;
+                
+            case CommandNames.CLEAR:
+                commandClear();
+                break;
+                
             default:
                 throw new BadCommandException(token + ": unknown command.");
         }
@@ -137,6 +139,18 @@ public class Application {
             case CommandNames.ADD_LAST:
                 commandAddLast(arg);
                 break;
+                
+            case CommandNames.GET:
+                commandGet(arg);
+                break;
+                
+            case CommandNames.ITERATE:
+                commandIterate(deque.iterator(), parseCount(arg));
+                break;
+                
+            case CommandNames.DESCENDING_ITERATE:
+                commandIterate(deque.descendingIterator(), parseCount(arg));
+                break;
         
             default:
                 throw new BadCommandException(cmd + ": unknowon command.");
@@ -153,6 +167,52 @@ public class Application {
         printDeque();
     }
     
+    private void commandGet(String arg) throws BadCommandException {
+        try {
+            System.out.println(deque.get(Integer.parseInt(arg)));
+        } catch (NumberFormatException ex) {
+            throw new BadCommandException(arg + ": not an index.");
+        } catch (IllegalArgumentException ex) {
+            throw new BadCommandException(ex.getMessage());
+        }
+    }
+    
+    // Prints at most 'count' elements.
+    private void commandIterate(Iterator<String> iterator, int count) {
+        StringBuilder sb = new StringBuilder("[");
+        
+        while (count-- > 0 && iterator.hasNext()) {
+            sb.append(iterator.next());
+            
+            if (count > 0 && iterator.hasNext()) {
+                sb.append(", ");
+            }
+        }
+        
+        System.out.println(sb.append("]"));
+    }
+    
+    private int parseCount(String arg) throws BadCommandException {
+        int count;
+        
+        try {
+            count = Integer.parseInt(arg);
+        } catch (NumberFormatException ex) {
+            throw new BadCommandException(arg + ": not a count.");
+        }
+        
+        if (count < 0) {
+            throw new BadCommandException(arg + ": not a count.");
+        }
+        
+        return count;
+    }
+    
+    private void commandClear() {
+        deque.clear();
+        printDeque();
+    }
+    
     private void commandGetFirst() {
         System.out.println(deque.getFirst());
     }
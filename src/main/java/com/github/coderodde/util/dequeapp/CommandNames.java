@@ -0,0 +1,22 @@
+package com.github.coderodde.util.dequeapp;
+
+/**
+ * This class holds the command vocabulary shared by the interactive 
+ * {@link Application} and the hand-authored operation traces.
+ */
+final class CommandNames {
+    static final String ADD_FIRST    = "af";
+    static final String ADD_LAST     = "al";
+    static final String GET_FIRST    = "gf";
+    static final String GET_LAST     = "gl";
+    static final String GET          = "get";
+    static final String REMOVE_FIRST = "rf";
+    static final String REMOVE_LAST  = "rl";
+    static final String REVERT       = "rev";
+    static final String IS_REVERTED  = "reverted";
+    static final String ITERATE      = "iter";
+    static final String DESCENDING_ITERATE = "diter";
+    static final String CLEAR        = "clear";
+    
+    private CommandNames() {}
+}
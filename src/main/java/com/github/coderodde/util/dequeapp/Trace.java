@@ -0,0 +1,168 @@
+package com.github.coderodde.util.dequeapp;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * This class holds a decoded sequence of deque operations. A trace is read
+ * either from the binary format written by {@link TraceRecordingDeque}, or 
+ * from a hand-authored text file with one command per line in the vocabulary
+ * of the {@link Application} ({@code af}, {@code al}, {@code gf}, 
+ * {@code gl}, {@code get <index>}, {@code rf}, {@code rl}, {@code rev}, 
+ * {@code iter [count]}, {@code diter [count]} and {@code clear}). In text 
+ * traces, the arguments of {@code af} and {@code al} are optional and 
+ * ignored, {@code iter} and {@code diter} without a count iterate over the 
+ * whole deque, and empty lines and lines starting with {@code #} are 
+ * skipped.
+ */
+public final class Trace {
+    
+    private byte[] opcodes = new byte[16];
+    private int[] arguments = new int[16];
+    private int length;
+    
+    private Trace() {}
+    
+    // Detects the format by looking for the magic bytes.
+    public static Trace read(InputStream in) throws IOException {
+        BufferedInputStream bin = new BufferedInputStream(in);
+        bin.mark(TraceFormat.MAGIC.length);
+        byte[] magic = bin.readNBytes(TraceFormat.MAGIC.length);
+        bin.reset();
+        
+        return Arrays.equals(magic, TraceFormat.MAGIC) ? 
+                readBinary(bin) : 
+                readText(bin);
+    }
+    
+    public static Trace readBinary(InputStream in) throws IOException {
+        Trace trace = new Trace();
+        TraceFormat.readHeader(in);
+        int opcode;
+        
+        while ((opcode = in.read()) >= 0) {
+            TraceOp op = TraceOp.forOpcode(opcode);
+            trace.append(op, 
+                         op.hasArgument() ? TraceFormat.readVarInt(in) : 0);
+        }
+        
+        return trace;
+    }
+    
+    public static Trace readText(InputStream in) throws IOException {
+        Trace trace = new Trace();
+        BufferedReader reader = 
+                new BufferedReader(
+                        new InputStreamReader(in, StandardCharsets.UTF_8));
+        
+        String line;
+        int lineNumber = 0;
+        
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            line = line.trim();
+            
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            
+            try {
+                trace.appendTextCommand(line.split("\\s+"));
+            } catch (IllegalArgumentException ex) {
+                throw new IOException(
+                        "Line " + lineNumber + ": " + ex.getMessage(), ex);
+            }
+        }
+        
+        return trace;
+    }
+    
+    public void writeBinary(OutputStream out) throws IOException {
+        DataOutputStream dout = 
+                new DataOutputStream(new BufferedOutputStream(out));
+        
+        TraceFormat.writeHeader(dout);
+        
+        for (int i = 0; i < length; i++) {
+            TraceFormat.writeRecord(dout, getOp(i), arguments[i]);
+        }
+        
+        dout.flush();
+    }
+    
+    public int length() {
+        return length;
+    }
+    
+    TraceOp getOp(int i) {
+        return TraceOp.forOpcode(opcodes[i]);
+    }
+    
+    byte getOpcode(int i) {
+        return opcodes[i];
+    }
+    
+    int getArgument(int i) {
+        return arguments[i];
+    }
+    
+    private void appendTextCommand(String[] tokens) {
+        TraceOp op = TraceOp.forCommandName(tokens[0].toLowerCase());
+        
+        if (op == TraceOp.GET) {
+            if (tokens.length != 2) {
+                throw new IllegalArgumentException(
+                        op.commandName + ": expected exactly one index.");
+            }
+            
+            append(op, parseNonNegative(tokens[1]));
+        } else if (op.hasArgument()) {
+            if (tokens.length > 2) {
+                throw new IllegalArgumentException(
+                        op.commandName + ": expected at most one count.");
+            }
+            
+            append(op, 
+                   tokens.length == 2 ? 
+                           parseNonNegative(tokens[1]) : 
+                           TraceOp.FULL_ITERATION);
+        } else if (tokens.length > 2 
+                || (tokens.length == 2 
+                && op != TraceOp.ADD_FIRST 
+                && op != TraceOp.ADD_LAST)) {
+            throw new IllegalArgumentException(
+                    op.commandName + ": unexpected argument.");
+        } else {
+            append(op, 0);
+        }
+    }
+    
+    private void append(TraceOp op, int argument) {
+        if (length == opcodes.length) {
+            opcodes = Arrays.copyOf(opcodes, 2 * length);
+            arguments = Arrays.copyOf(arguments, 2 * length);
+        }
+        
+        opcodes[length] = (byte) op.ordinal();
+        arguments[length] = argument;
+        length++;
+    }
+    
+    private static int parseNonNegative(String token) {
+        int value = Integer.parseInt(token);
+        
+        if (value < 0) {
+            throw new IllegalArgumentException("argument = " + value + " < 0");
+        }
+        
+        return value;
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.coderodde.util.dequeapp;
+
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class implements the binary trace format. A trace starts with the 
+ * magic bytes {@code RDQT} followed by a version byte. Each record consists of
+ * the opcode byte of a {@link TraceOp}, followed by its argument (an index or
+ * an element count) as an unsigned variable-length integer (7 bits per byte, 
+ * least significant group first) if the operation has one. Element values are
+ * not recorded.
+ */
+final class TraceFormat {
+    
+    static final byte[] MAGIC = { 'R', 'D', 'Q', 'T' };
+    static final int VERSION = 2;
+    
+    private TraceFormat() {}
+    
+    static void writeHeader(DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.writeByte(VERSION);
+    }
+    
+    static void writeRecord(DataOutputStream out, TraceOp op, int argument) 
+            throws IOException {
+        out.writeByte(op.ordinal());
+        
+        if (op.hasArgument()) {
+            writeVarInt(out, argument);
+        }
+    }
+    
+    static void readHeader(InputStream in) throws IOException {
+        for (byte b : MAGIC) {
+            if (in.read() != b) {
+                throw new IOException("Not a binary deque trace.");
+            }
+        }
+        
+        int version = in.read();
+        
+        if (version != VERSION) {
+            throw new IOException("Unsupported trace version: " + version);
+        }
+    }
+    
+    static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.read();
+            
+            if (b < 0) {
+                throw new EOFException("Truncated trace record.");
+            }
+            
+            value |= (b & 0x7f) << shift;
+            
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        
+        throw new IOException("Malformed variable-length integer.");
+    }
+    
+    private static void writeVarInt(DataOutputStream out, int value) 
+            throws IOException {
+        while ((value & ~0x7f) != 0) {
+            out.writeByte((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        
+        out.writeByte(value);
+    }
+}
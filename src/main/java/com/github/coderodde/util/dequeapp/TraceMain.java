@@ -0,0 +1,89 @@
+package com.github.coderodde.util.dequeapp;
+
+import com.github.coderodde.util.ReversibleDeque;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.LinkedList;
+
+/**
+ * This class replays a binary or hand-authored text trace against 
+ * {@link ReversibleDeque}, {@link ArrayDeque} and {@link LinkedList}, or 
+ * converts a text trace to the binary format.
+ * <p>
+ * Usage:
+ * <pre>
+ *   TraceMain &lt;trace-file&gt; [rounds]
+ *   TraceMain --convert &lt;text-trace-file&gt; &lt;binary-trace-file&gt;
+ * </pre>
+ * All the rounds but the last one are warmup rounds.
+ */
+public final class TraceMain {
+    
+    private static final int DEFAULT_ROUNDS = 5;
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length == 3 && args[0].equals("--convert")) {
+            convert(args[1], args[2]);
+        } else if (args.length == 1 || args.length == 2) {
+            replay(args[0], 
+                   args.length == 2 ? 
+                           Integer.parseInt(args[1]) : 
+                           DEFAULT_ROUNDS);
+        } else {
+            System.out.println(
+                    "Usage: TraceMain <trace-file> [rounds]\n" +
+                    "       TraceMain --convert <text-trace-file> " + 
+                    "<binary-trace-file>");
+        }
+    }
+    
+    private static void convert(String textFileName, String binaryFileName) 
+            throws IOException {
+        Trace trace;
+        
+        try (InputStream in = new FileInputStream(textFileName)) {
+            trace = Trace.readText(in);
+        }
+        
+        try (OutputStream out = new FileOutputStream(binaryFileName)) {
+            trace.writeBinary(out);
+        }
+        
+        System.out.println("Converted " + trace.length() + " operations.");
+    }
+    
+    private static void replay(String fileName, int rounds) 
+            throws IOException {
+        if (rounds < 1) {
+            throw new IllegalArgumentException("rounds = " + rounds + " < 1");
+        }
+        
+        Trace trace;
+        
+        try (InputStream in = new FileInputStream(fileName)) {
+            trace = Trace.read(in);
+        }
+        
+        TraceReplayer replayer = new TraceReplayer(trace);
+        TraceReplayer.Result[] results = new TraceReplayer.Result[3];
+        
+        for (int round = 0; round < rounds; round++) {
+            results[0] = replayer.replay("ReversibleDeque",
+                                         ReversibleDeque::new);
+            results[1] = replayer.replay("ArrayDeque", ArrayDeque::new);
+            results[2] = replayer.replay("LinkedList", LinkedList::new);
+        }
+        
+        System.out.println("Operations: " + trace.length());
+        
+        for (TraceReplayer.Result result : results) {
+            System.out.println(result);
+        }
+        
+        System.out.println("(sink: " + replayer.getSink() + ")");
+    }
+}
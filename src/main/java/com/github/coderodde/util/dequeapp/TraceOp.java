@@ -0,0 +1,55 @@
+package com.github.coderodde.util.dequeapp;
+
+/**
+ * This enumeration lists the deque operations that may appear in a trace. The
+ * ordinal of an operation is its opcode in the binary trace format.
+ */
+enum TraceOp {
+    ADD_FIRST   (CommandNames.ADD_FIRST),
+    ADD_LAST    (CommandNames.ADD_LAST),
+    GET_FIRST   (CommandNames.GET_FIRST),
+    GET_LAST    (CommandNames.GET_LAST),
+    GET         (CommandNames.GET),
+    REMOVE_FIRST(CommandNames.REMOVE_FIRST),
+    REMOVE_LAST (CommandNames.REMOVE_LAST),
+    REVERT      (CommandNames.REVERT),
+    ITERATE     (CommandNames.ITERATE),
+    DESCENDING_ITERATE(CommandNames.DESCENDING_ITERATE),
+    CLEAR       (CommandNames.CLEAR);
+    
+    // The argument of an iteration that runs until the iterator is exhausted.
+    static final int FULL_ITERATION = Integer.MAX_VALUE;
+    
+    private static final TraceOp[] VALUES = values();
+    
+    final String commandName;
+    
+    TraceOp(String commandName) {
+        this.commandName = commandName;
+    }
+    
+    // GET carries the index of the accessed element, ITERATE and 
+    // DESCENDING_ITERATE carry the number of elements iterated.
+    boolean hasArgument() {
+        return this == GET || this == ITERATE || this == DESCENDING_ITERATE;
+    }
+    
+    static TraceOp forOpcode(int opcode) {
+        if (opcode < 0 || opcode >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown opcode: " + opcode);
+        }
+        
+        return VALUES[opcode];
+    }
+    
+    static TraceOp forCommandName(String commandName) {
+        for (TraceOp op : VALUES) {
+            if (op.commandName.equals(commandName)) {
+                return op;
+            }
+        }
+        
+        throw new IllegalArgumentException(
+                commandName + ": unknown trace command.");
+    }
+}
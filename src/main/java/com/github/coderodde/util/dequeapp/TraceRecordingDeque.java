@@ -0,0 +1,201 @@
+package com.github.coderodde.util.dequeapp;
+
+import com.github.coderodde.util.ReversibleDeque;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * This class implements a {@link ReversibleDeque} that writes each successful
+ * operation to a binary trace (see {@link TraceFormat}), which can later be
+ * replayed against other deque implementations via {@link TraceReplayer}.
+ * <p>
+ * An iteration is recorded with the number of elements actually consumed
+ * from its iterator. The record is written when the iterator is exhausted,
+ * before the next recorded operation, or on {@link #close()}, whichever comes
+ * first; if the iterator is consumed further after that, the additional
+ * elements are recorded as another iteration. The operations that cannot be
+ * replayed on an arbitrary {@link java.util.Deque}, {@link #sort(Comparator)}
+ * and {@link #mergeSorted(ReversibleDeque, Comparator)}, throw an
+ * {@link UnsupportedOperationException}. Merging a recording deque into
+ * another deque empties it, which is recorded as {@code clear}. Failures to
+ * write the trace are reported as {@link UncheckedIOException}s.
+ */
+public class TraceRecordingDeque<E> extends ReversibleDeque<E>
+        implements Closeable {
+
+    private final DataOutputStream out;
+    private final List<RecordingIterator> pendingIterators = new ArrayList<>();
+
+    public TraceRecordingDeque(OutputStream out) {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+
+        try {
+            TraceFormat.writeHeader(this.out);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void revert() {
+        super.revert();
+        record(TraceOp.REVERT, 0);
+    }
+
+    @Override
+    public E get(int index) {
+        E e = super.get(index);
+        record(TraceOp.GET, index);
+        return e;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        super.addFirst(e);
+        record(TraceOp.ADD_FIRST, 0);
+    }
+
+    @Override
+    public void addLast(E e) {
+        super.addLast(e);
+        record(TraceOp.ADD_LAST, 0);
+    }
+
+    @Override
+    public E removeFirst() {
+        E e = super.removeFirst();
+        record(TraceOp.REMOVE_FIRST, 0);
+        return e;
+    }
+
+    @Override
+    public E removeLast() {
+        E e = super.removeLast();
+        record(TraceOp.REMOVE_LAST, 0);
+        return e;
+    }
+
+    @Override
+    public E getFirst() {
+        E e = super.getFirst();
+        record(TraceOp.GET_FIRST, 0);
+        return e;
+    }
+
+    @Override
+    public E getLast() {
+        E e = super.getLast();
+        record(TraceOp.GET_LAST, 0);
+        return e;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        record(TraceOp.CLEAR, 0);
+    }
+
+    @Override
+    public void sort(Comparator<? super E> c) {
+        throw new UnsupportedOperationException(
+                "sort cannot be recorded.");
+    }
+
+    @Override
+    public void mergeSorted(ReversibleDeque<E> other,
+                            Comparator<? super E> c) {
+        throw new UnsupportedOperationException(
+                "mergeSorted cannot be recorded.");
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new RecordingIterator(super.iterator(), TraceOp.ITERATE);
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new RecordingIterator(super.descendingIterator(),
+                                     TraceOp.DESCENDING_ITERATE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushPendingIterators();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        } finally {
+            out.close();
+        }
+    }
+
+    private void record(TraceOp op, int argument) {
+        flushPendingIterators();
+        write(op, argument);
+    }
+
+    private void flushPendingIterators() {
+        for (RecordingIterator iterator : pendingIterators) {
+            iterator.writeConsumed();
+        }
+
+        pendingIterators.clear();
+    }
+
+    private void write(TraceOp op, int argument) {
+        try {
+            TraceFormat.writeRecord(out, op, argument);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private final class RecordingIterator implements Iterator<E> {
+
+        private final Iterator<E> delegate;
+        private final TraceOp op;
+
+        // The number of elements consumed but not written to the trace yet:
+        private int consumed;
+
+        RecordingIterator(Iterator<E> delegate, TraceOp op) {
+            this.delegate = delegate;
+            this.op = op;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return delegate.hasNext();
+        }
+
+        @Override
+        public E next() {
+            E e = delegate.next();
+
+            if (consumed++ == 0) {
+                pendingIterators.add(this);
+            }
+
+            if (!delegate.hasNext()) {
+                pendingIterators.remove(this);
+                writeConsumed();
+            }
+
+            return e;
+        }
+
+        void writeConsumed() {
+            write(op, consumed);
+            consumed = 0;
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.github.coderodde.util.dequeapp;
+
+import com.github.coderodde.util.ReversibleDeque;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * This class replays a {@link Trace} against an arbitrary {@link Deque} and
+ * measures the throughput, the latency distribution and the allocation rate
+ * of the replay. The trace is replayed twice, each time on a fresh deque: 
+ * the first pass runs the operations back to back and measures the 
+ * throughput and the allocations, and the second pass reads the clock around
+ * each operation in order to sample the latencies. This way, the cost of 
+ * reading the clock, which is often higher than that of the operation 
+ * itself, does not enter the throughput.
+ * <p>
+ * If the deque is a {@link ReversibleDeque}, {@code rev} is replayed via 
+ * {@link ReversibleDeque#revert()}. Otherwise, the replayer keeps a 
+ * {@code reverted} flag of its own and mirrors the subsequent operations, 
+ * i.e., {@code af} becomes {@code addLast} while reverted. {@code get} uses
+ * {@link List#get(int)} if the deque is a list, and walks an iterator 
+ * otherwise. All added elements are the same object, so that the measured 
+ * allocations are those of the deque itself.
+ */
+public final class TraceReplayer {
+    
+    private static final Integer ELEMENT = 1;
+    
+    private final Trace trace;
+    private final long[] latencies;
+    private boolean reverted;
+    private long sink;
+    
+    public TraceReplayer(Trace trace) {
+        this.trace = trace;
+        this.latencies = new long[trace.length()];
+    }
+    
+    // Asks 'dequeFactory' for a new, empty deque for each of the two passes.
+    public Result replay(String name, 
+                         Supplier<? extends Deque<Integer>> dequeFactory) {
+        com.sun.management.ThreadMXBean threadMXBean = getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        
+        // The throughput pass:
+        Deque<Integer> deque = dequeFactory.get();
+        reverted = false;
+        long allocatedBefore = getAllocatedBytes(threadMXBean, threadId);
+        long startTime = System.nanoTime();
+        
+        for (int i = 0; i < latencies.length; i++) {
+            execute(deque, trace.getOp(i), trace.getArgument(i));
+        }
+        
+        long totalNanos = System.nanoTime() - startTime;
+        long allocatedAfter = getAllocatedBytes(threadMXBean, threadId);
+        
+        // The latency pass:
+        deque = dequeFactory.get();
+        reverted = false;
+        
+        for (int i = 0; i < latencies.length; i++) {
+            long operationStartTime = System.nanoTime();
+            execute(deque, trace.getOp(i), trace.getArgument(i));
+            latencies[i] = System.nanoTime() - operationStartTime;
+        }
+        
+        long[] sortedLatencies = latencies.clone();
+        Arrays.sort(sortedLatencies);
+        
+        return new Result(name,
+                          totalNanos,
+                          sortedLatencies,
+                          allocatedBefore < 0L ? 
+                                  -1L : 
+                                  allocatedAfter - allocatedBefore);
+    }
+    
+    // Prevents the JIT from eliminating the replayed reads.
+    long getSink() {
+        return sink;
+    }
+    
+    private void execute(Deque<Integer> deque, TraceOp op, int argument) {
+        switch (op) {
+            case ADD_FIRST:
+                if (reverted) {
+                    deque.addLast(ELEMENT);
+                } else {
+                    deque.addFirst(ELEMENT);
+                }
+                
+                break;
+                
+            case ADD_LAST:
+                if (reverted) {
+                    deque.addFirst(ELEMENT);
+                } else {
+                    deque.addLast(ELEMENT);
+                }
+                
+                break;
+                
+            case GET_FIRST:
+                consume(reverted ? deque.getLast() : deque.getFirst());
+                break;
+                
+            case GET_LAST:
+                consume(reverted ? deque.getFirst() : deque.getLast());
+                break;
+                
+            case GET:
+                consume(get(deque, argument));
+                break;
+                
+            case REMOVE_FIRST:
+                consume(reverted ? deque.removeLast() : deque.removeFirst());
+                break;
+                
+            case REMOVE_LAST:
+                consume(reverted ? deque.removeFirst() : deque.removeLast());
+                break;
+                
+            case REVERT:
+                if (deque instanceof ReversibleDeque) {
+                    ((ReversibleDeque<Integer>) deque).revert();
+                } else {
+                    reverted = !reverted;
+                }
+                
+                break;
+                
+            case ITERATE:
+                iterate(reverted ? 
+                                deque.descendingIterator() : 
+                                deque.iterator(), 
+                        argument);
+                break;
+                
+            case DESCENDING_ITERATE:
+                iterate(reverted ? 
+                                deque.iterator() : 
+                                deque.descendingIterator(), 
+                        argument);
+                break;
+                
+            case CLEAR:
+                deque.clear();
+                break;
+                
+            default:
+                throw new IllegalStateException("Unknown operation: " + op);
+        }
+    }
+    
+    private Integer get(Deque<Integer> deque, int index) {
+        if (deque instanceof List) {
+            List<Integer> list = (List<Integer>) deque;
+            return list.get(reverted ? list.size() - 1 - index : index);
+        }
+        
+        Iterator<Integer> iterator = 
+                reverted ? deque.descendingIterator() : deque.iterator();
+        
+        while (index-- > 0) {
+            iterator.next();
+        }
+        
+        return iterator.next();
+    }
+    
+    // Consumes at most 'count' elements.
+    private void iterate(Iterator<Integer> iterator, int count) {
+        while (count-- > 0 && iterator.hasNext()) {
+            consume(iterator.next());
+        }
+    }
+    
+    private void consume(Integer e) {
+        sink += e == null ? 0 : 1;
+    }
+    
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean threadMXBean = 
+                ManagementFactory.getThreadMXBean();
+        
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean = 
+                    (com.sun.management.ThreadMXBean) threadMXBean;
+            
+            if (bean.isThreadAllocatedMemorySupported() 
+                    && bean.isThreadAllocatedMemoryEnabled()) {
+                return bean;
+            }
+        }
+        
+        return null;
+    }
+    
+    private static long getAllocatedBytes(
+            com.sun.management.ThreadMXBean threadMXBean, 
+            long threadId) {
+        return threadMXBean == null ? 
+                -1L : 
+                threadMXBean.getThreadAllocatedBytes(threadId);
+    }
+    
+    public static final class Result {
+        
+        private final String name;
+        private final long totalNanos;
+        private final long[] sortedLatencies;
+        private final long allocatedBytes;
+        
+        Result(String name, 
+               long totalNanos, 
+               long[] sortedLatencies, 
+               long allocatedBytes) {
+            this.name = name;
+            this.totalNanos = totalNanos;
+            this.sortedLatencies = sortedLatencies;
+            this.allocatedBytes = allocatedBytes;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public int getNumberOfOperations() {
+            return sortedLatencies.length;
+        }
+        
+        public double getOperationsPerSecond() {
+            return totalNanos == 0L ? 
+                    0.0 : 
+                    sortedLatencies.length * 1e9 / totalNanos;
+        }
+        
+        // 'percentile' is within [0, 100].
+        public long getLatencyPercentileNanos(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException(
+                        "percentile = " + percentile);
+            }
+            
+            if (sortedLatencies.length == 0) {
+                return 0L;
+            }
+            
+            int index = (int) Math.ceil(
+                    percentile / 100.0 * sortedLatencies.length) - 1;
+            
+            return sortedLatencies[Math.max(0, index)];
+        }
+        
+        // Returns -1 if allocation measurement is not supported.
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+        
+        // Returns a negative value if allocation measurement is not supported.
+        public double getAllocatedMegabytesPerSecond() {
+            if (allocatedBytes < 0L) {
+                return -1.0;
+            }
+            
+            return totalNanos == 0L ? 
+                    0.0 : 
+                    allocatedBytes / 1e6 / (totalNanos / 1e9);
+        }
+        
+        @Override
+        public String toString() {
+            return String.format(
+                    "%-16s %12.0f ops/s  p50 %6d ns  p90 %6d ns  "
+                            + "p99 %7d ns  p99.9 %8d ns  max %9d ns  %s",
+                    name,
+                    getOperationsPerSecond(),
+                    getLatencyPercentileNanos(50.0),
+                    getLatencyPercentileNanos(90.0),
+                    getLatencyPercentileNanos(99.0),
+                    getLatencyPercentileNanos(99.9),
+                    getLatencyPercentileNanos(100.0),
+                    allocatedBytes < 0L ? 
+                            "allocation n/a" : 
+                            String.format("%.1f MB/s (%.1f B/op)", 
+                                          getAllocatedMegabytesPerSecond(), 
+                                          sortedLatencies.length == 0 ?
+                                                  0.0 :
+                                                  (double) allocatedBytes 
+                                                  / sortedLatencies.length));
+        }
+    }
+}
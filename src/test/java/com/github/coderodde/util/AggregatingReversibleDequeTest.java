@@ -0,0 +1,96 @@
+package com.github.coderodde.util;
+
+import java.util.Random;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AggregatingReversibleDequeTest {
+
+    @Test
+    public void sumAndMax() {
+        AggregatingReversibleDeque<Integer> sum =
+                new AggregatingReversibleDeque<>(0, Integer::sum);
+        AggregatingReversibleDeque<Integer> max =
+                new AggregatingReversibleDeque<>(Integer.MIN_VALUE, Math::max);
+
+        assertEquals(Integer.valueOf(0), sum.aggregate());
+
+        for (int i = 1; i <= 5; i++) {
+            sum.addLast(i);
+            max.addLast(i);
+        }
+
+        assertEquals(Integer.valueOf(15), sum.aggregate());
+        assertEquals(Integer.valueOf(5), max.aggregate());
+
+        assertEquals(Integer.valueOf(1), sum.removeFirst());
+        assertEquals(Integer.valueOf(5), max.removeLast());
+
+        assertEquals(Integer.valueOf(14), sum.aggregate());
+        assertEquals(Integer.valueOf(4), max.aggregate());
+    }
+
+    @Test
+    public void nonCommutativeAcrossRevert() {
+        AggregatingReversibleDeque<String> deque =
+                new AggregatingReversibleDeque<>("", String::concat);
+
+        deque.addLast("b");
+        deque.addLast("c");
+        deque.addFirst("a");
+
+        assertEquals("abc", deque.aggregate());
+
+        deque.revert();
+
+        assertEquals("cba", deque.aggregate());
+        assertEquals("c", deque.getFirst());
+        assertEquals("a", deque.getLast());
+
+        deque.addLast("z");
+
+        assertEquals("cbaz", deque.aggregate());
+        assertEquals("c", deque.removeFirst());
+        assertEquals("baz", deque.aggregate());
+
+        deque.revert();
+
+        assertEquals("zab", deque.aggregate());
+    }
+
+    @Test
+    public void bruteForce() {
+        Random random = new Random(13L);
+        ReversibleDeque<String> reference = new ReversibleDeque<>();
+        AggregatingReversibleDeque<String> deque =
+                new AggregatingReversibleDeque<>("", String::concat);
+
+        for (int i = 0; i < 10_000; i++) {
+            int op = random.nextInt(10);
+            String s = Character.toString('a' + random.nextInt(26));
+
+            if (op < 3) {
+                reference.addFirst(s);
+                deque.addFirst(s);
+            } else if (op < 6) {
+                reference.addLast(s);
+                deque.addLast(s);
+            } else if (op == 6 && !reference.isEmpty()) {
+                assertEquals(reference.removeFirst(), deque.removeFirst());
+            } else if (op == 7 && !reference.isEmpty()) {
+                assertEquals(reference.removeLast(), deque.removeLast());
+            } else if (op == 8) {
+                reference.revert();
+                deque.revert();
+            }
+
+            assertEquals(reference.size(), deque.size());
+            assertEquals(String.join("", reference), deque.aggregate());
+
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), deque.getFirst());
+                assertEquals(reference.getLast(), deque.getLast());
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.coderodde.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class AsyncReversibleDequeTest {
+
+    private final AsyncReversibleDeque<Integer> deque =
+            new AsyncReversibleDeque<>();
+
+    @Test
+    public void takeAvailableElements() throws Exception {
+        deque.addLast(1);
+        deque.addLast(2);
+        deque.addLast(3);
+        deque.revert();
+
+        assertEquals(Integer.valueOf(3), deque.takeFirstAsync().get());
+        assertEquals(Integer.valueOf(1), deque.takeLast());
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    public void addHandsOverToWaiter() throws Exception {
+        CompletableFuture<Integer> first = deque.takeFirstAsync();
+        CompletableFuture<Integer> second = deque.takeLastAsync();
+
+        assertFalse(first.isDone());
+        assertEquals(2, deque.getNumberOfWaiters());
+
+        deque.addLast(10);
+        deque.addFirst(20);
+
+        assertEquals(Integer.valueOf(10), first.get());
+        assertEquals(Integer.valueOf(20), second.get());
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.getNumberOfWaiters());
+    }
+
+    @Test
+    public void cancelledWaiterDoesNotLoseElement() throws Exception {
+        CompletableFuture<Integer> cancelled = deque.takeFirstAsync();
+        CompletableFuture<Integer> waiting = deque.takeFirstAsync();
+
+        cancelled.cancel(false);
+        deque.addLast(5);
+
+        assertEquals(Integer.valueOf(5), waiting.get());
+
+        deque.takeFirstAsync().cancel(false);
+        deque.addLast(6);
+
+        assertEquals(1, deque.size());
+        assertEquals(Integer.valueOf(6), deque.takeFirst());
+    }
+
+    @Test
+    public void asyncTimeout() throws InterruptedException {
+        CompletableFuture<Integer> future =
+                deque.takeFirstAsync(10, TimeUnit.MILLISECONDS);
+
+        try {
+            future.get();
+            fail("Timeout expected.");
+        } catch (ExecutionException ex) {
+            assertTrue(ex.getCause() instanceof TimeoutException);
+        }
+
+        deque.addLast(1);
+        assertEquals(1, deque.size());
+    }
+
+    @Test
+    public void blockingPoll() throws InterruptedException {
+        assertNull(deque.pollFirst(10, TimeUnit.MILLISECONDS));
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                return;
+            }
+
+            deque.addFirst(7);
+        });
+
+        producer.start();
+        assertEquals(Integer.valueOf(7), deque.pollLast(10, TimeUnit.SECONDS));
+        producer.join();
+    }
+}
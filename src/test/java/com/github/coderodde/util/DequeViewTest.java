@@ -0,0 +1,114 @@
+package com.github.coderodde.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class DequeViewTest {
+
+    private final ReversibleDeque<Integer> deque = new ReversibleDeque<>();
+    
+    @Before
+    public void before() {
+        for (int i = 1; i <= 10; i++) {
+            deque.addLast(i);
+        }
+    }
+    
+    @Test
+    public void followsRevertedState() {
+        assertEquals(Arrays.asList(1, 2, 3), deque.view().limit(3).toList());
+        
+        deque.revert();
+        
+        assertEquals(Arrays.asList(10, 9, 8), deque.view().limit(3).toList());
+        assertEquals(Arrays.asList(1, 2, 3), 
+                     deque.view().reversed().limit(3).toList());
+    }
+    
+    @Test
+    public void pipeline() {
+        assertEquals(Arrays.asList("10", "8", "6"),
+                     deque.view()
+                          .reversed()
+                          .filter(i -> i % 2 == 0)
+                          .map(String::valueOf)
+                          .limit(3)
+                          .toList());
+        
+        assertEquals(Arrays.asList(3, 4, 5), 
+                     deque.view().skip(2).limit(3).toList());
+        assertEquals(5L, deque.view().filter(i -> i > 5).count());
+    }
+    
+    @Test
+    public void reversingSlices() {
+        assertEquals(Arrays.asList(3, 2, 1), 
+                     deque.view().limit(3).reversed().toList());
+        assertEquals(Arrays.asList(6, 4), 
+                     deque.view()
+                          .filter(i -> i % 2 == 0)
+                          .skip(1)
+                          .limit(2)
+                          .reversed()
+                          .toList());
+        assertEquals(Arrays.asList(10, 9), 
+                     deque.view().skip(8).reversed().toList());
+        assertEquals(Collections.emptyList(), 
+                     deque.view().skip(20).reversed().toList());
+        assertEquals(Arrays.asList(1, 2, 3), 
+                     deque.view().limit(3).reversed().reversed().toList());
+    }
+    
+    @Test
+    public void shortCircuits() {
+        int[] evaluations = new int[1];
+        
+        deque.view()
+             .map(i -> { evaluations[0]++; return i; })
+             .limit(2)
+             .toList();
+        
+        assertEquals(2, evaluations[0]);
+    }
+    
+    @Test
+    public void reversedSliceAppliesMapperOnlyToSelectedElements() {
+        int[] evaluations = new int[1];
+        
+        DequeView<Integer> view = 
+                deque.view()
+                     .map(i -> { evaluations[0]++; return i; })
+                     .limit(3)
+                     .reversed();
+        
+        assertEquals(Arrays.asList(3, 2, 1), view.toList());
+        assertEquals(3, evaluations[0]);
+        
+        evaluations[0] = 0;
+        
+        assertEquals(Arrays.asList(9, 8), 
+                     deque.view()
+                          .map(i -> { evaluations[0]++; return i; })
+                          .skip(7)
+                          .reversed()
+                          .skip(1)
+                          .toList());
+        
+        assertEquals(2, evaluations[0]);
+        assertEquals(3, view.count());
+        assertEquals(2, evaluations[0]);
+    }
+    
+    @Test(expected = ConcurrentModificationException.class)
+    public void failFast() {
+        Iterator<Integer> iterator = deque.view().map(i -> i * 2).iterator();
+        iterator.next();
+        deque.addLast(11);
+        iterator.next();
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.coderodde.util;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ExpiringReversibleDequeTest {
+
+    private final MutableClock clock = new MutableClock();
+    private final ExpiringReversibleDeque<String> deque =
+            new ExpiringReversibleDeque<>(clock);
+
+    @Test
+    public void timestamps() {
+        load();
+
+        assertEquals(4, deque.size());
+        assertEquals(100L, deque.getOldestTimestamp());
+        assertEquals(300L, deque.getNewestTimestamp());
+        assertEquals("a", deque.getFirst());
+        assertEquals("d", deque.getLast());
+
+        deque.revert();
+
+        assertEquals("d", deque.getFirst());
+        assertEquals("a", deque.getLast());
+        assertEquals(100L, deque.getOldestTimestamp());
+    }
+
+    @Test
+    public void expireOlderThan() {
+        load();
+
+        assertEquals(0, deque.expireOlderThan(100L));
+        assertEquals(1, deque.expireOlderThan(200L));
+        assertEquals("b", deque.getFirst());
+        assertEquals(200L, deque.getOldestTimestamp());
+
+        deque.revert();
+
+        // The expired elements are now the suffix:
+        assertEquals(2, deque.expireOlderThan(300L));
+        assertEquals("d", deque.getFirst());
+        assertEquals("d", deque.getLast());
+        assertEquals(1, deque.size());
+
+        assertEquals(1, deque.expireOlderThan(Long.MAX_VALUE));
+        assertTrue(deque.isEmpty());
+
+        deque.add("e");
+        assertEquals("e", deque.removeLast());
+    }
+
+    @Test
+    public void expireWithTtl() {
+        load();
+        clock.millis = 350L;
+
+        assertEquals(3, deque.expire(100L));
+        assertEquals("d", deque.removeFirst());
+    }
+
+    @Test
+    public void removeAtBothEnds() {
+        load();
+        deque.revert();
+
+        assertEquals("d", deque.removeFirst());
+        assertEquals("a", deque.removeLast());
+        assertEquals(200L, deque.getOldestTimestamp());
+        assertEquals(200L, deque.getNewestTimestamp());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsOutOfOrderTimestamps() {
+        deque.add("a", 10L);
+        deque.add("b", 9L);
+    }
+
+    @Test
+    public void clockGoingBackwardsDoesNotThrow() {
+        clock.millis = 500L;
+        deque.add("a");
+        clock.millis = 400L;
+        deque.add("b");
+
+        assertEquals(500L, deque.getOldestTimestamp());
+        assertEquals(500L, deque.getNewestTimestamp());
+        assertEquals("b", deque.getLast());
+    }
+
+    @Test(timeout = 10_000L)
+    public void concurrentProducers() throws InterruptedException {
+        final int threadCount = 8;
+        final int perThread = 20_000;
+        ExpiringReversibleDeque<Integer> systemDeque =
+                new ExpiringReversibleDeque<>();
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    systemDeque.add(j);
+                }
+            });
+
+            thread.setUncaughtExceptionHandler((t, ex) -> {
+                synchronized (failures) {
+                    failures.add(ex);
+                }
+            });
+
+            threads.add(thread);
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(failures.toString(), failures.isEmpty());
+        assertEquals(threadCount * perThread, systemDeque.size());
+
+        long previous = Long.MIN_VALUE;
+
+        while (!systemDeque.isEmpty()) {
+            long oldest = systemDeque.getOldestTimestamp();
+            assertTrue(previous <= oldest);
+            previous = oldest;
+            systemDeque.removeFirst();
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void sweeper() throws InterruptedException {
+        load();
+        clock.millis = 1_000L;
+
+        ScheduledExecutorService executor =
+                Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            ScheduledFuture<?> future =
+                    deque.scheduleSweeper(executor,
+                                          500L,
+                                          1L,
+                                          TimeUnit.MILLISECONDS);
+
+            while (!deque.isEmpty()) {
+                Thread.sleep(1L);
+            }
+
+            future.cancel(false);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void load() {
+        clock.millis = 100L;
+        deque.add("a");
+        clock.millis = 200L;
+        deque.add("b");
+        deque.add("c");
+        clock.millis = 300L;
+        deque.add("d");
+    }
+
+    private static final class MutableClock extends Clock {
+
+        volatile long millis;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class IndexedReversibleDequeTest {
+
+    private final IndexedReversibleDeque<Integer> deque =
+            new IndexedReversibleDeque<>();
+
+    @Test
+    public void containsAndRemove() {
+        load(1, 2, 3, 4, 5);
+
+        assertTrue(deque.contains(3));
+        assertFalse(deque.contains(6));
+        assertTrue(deque.remove(Integer.valueOf(3)));
+        assertFalse(deque.contains(3));
+        assertFalse(deque.remove(Integer.valueOf(3)));
+        assertEquals(Arrays.asList(1, 2, 4, 5), toList());
+
+        assertTrue(deque.remove(Integer.valueOf(1)));
+        assertTrue(deque.remove(Integer.valueOf(5)));
+        assertEquals(Integer.valueOf(2), deque.getFirst());
+        assertEquals(Integer.valueOf(4), deque.getLast());
+        assertEquals(2, deque.size());
+    }
+
+    @Test
+    public void removeOccurrencesOfDuplicates() {
+        load(1, 2, 1, 3, 1);
+
+        assertEquals(3, deque.count(1));
+        assertTrue(deque.removeFirstOccurrence(1));
+        assertEquals(Arrays.asList(2, 1, 3, 1), toList());
+        assertTrue(deque.removeLastOccurrence(1));
+        assertEquals(Arrays.asList(2, 1, 3), toList());
+
+        deque.addFirst(3);
+        deque.revert();
+
+        // Reverted: [3, 1, 2, 3]
+        assertTrue(deque.removeFirstOccurrence(3));
+        assertEquals(Arrays.asList(1, 2, 3), toList());
+        assertTrue(deque.removeLastOccurrence(3));
+        assertEquals(Arrays.asList(1, 2), toList());
+        assertFalse(deque.contains(3));
+    }
+
+    @Test
+    public void endRemovalsKeepIndexConsistent() {
+        load(7, 8, 7);
+
+        assertEquals(Integer.valueOf(7), deque.removeFirst());
+        assertEquals(1, deque.count(7));
+
+        deque.revert();
+
+        assertEquals(Integer.valueOf(7), deque.removeFirst());
+        assertFalse(deque.contains(7));
+        assertEquals(Integer.valueOf(8), deque.pollLast());
+        assertNull(deque.pollFirst());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    public void moveOnReinsert() {
+        IndexedReversibleDeque<String> lru = new IndexedReversibleDeque<>(true);
+
+        lru.addLast("a");
+        lru.addLast("b");
+        lru.addLast("c");
+        lru.addLast("a");
+
+        assertEquals(3, lru.size());
+        assertEquals(1, lru.count("a"));
+        assertEquals("b", lru.getFirst());
+        assertEquals("a", lru.getLast());
+
+        lru.addFirst("c");
+        assertEquals("c", lru.removeFirst());
+        assertEquals("b", lru.removeFirst());
+        assertEquals("a", lru.removeFirst());
+        assertTrue(lru.isEmpty());
+    }
+
+    @Test
+    public void descendingIterator() {
+        load(1, 2, 3);
+        Iterator<Integer> iterator = deque.descendingIterator();
+
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void collectionCopiesAndToString() {
+        load(1, 2, 3);
+        deque.revert();
+
+        assertEquals(Arrays.asList(3, 2, 1), new ArrayList<>(deque));
+        assertArrayEquals(new Integer[]{ 3, 2, 1 },
+                          deque.toArray(new Integer[0]));
+        assertEquals("[3, 2, 1]", deque.toString());
+    }
+
+    @Test
+    public void iteratorRemove() {
+        load(1, 2, 1, 3, 1);
+        Iterator<Integer> iterator = deque.iterator();
+
+        assertEquals(Integer.valueOf(1), iterator.next());
+        assertEquals(Integer.valueOf(2), iterator.next());
+        assertEquals(Integer.valueOf(1), iterator.next());
+        iterator.remove();
+
+        assertEquals(Integer.valueOf(3), iterator.next());
+        assertEquals(Arrays.asList(1, 2, 3, 1), toList());
+        assertEquals(2, deque.count(1));
+
+        // The remaining occurrences are still the first and the last one:
+        assertTrue(deque.removeLastOccurrence(1));
+        assertEquals(Arrays.asList(1, 2, 3), toList());
+        assertTrue(deque.removeFirstOccurrence(1));
+        assertFalse(deque.contains(1));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void iteratorRemoveWithoutNextThrows() {
+        load(1);
+        deque.iterator().remove();
+    }
+
+    @Test
+    public void removeAllAndRetainAll() {
+        load(1, 2, 3, 2, 4);
+
+        assertTrue(deque.removeAll(Arrays.asList(2, 5)));
+        assertEquals(Arrays.asList(1, 3, 4), toList());
+        assertFalse(deque.contains(2));
+
+        assertTrue(deque.retainAll(Arrays.asList(3, 4)));
+        assertEquals(Arrays.asList(3, 4), toList());
+        assertFalse(deque.contains(1));
+        assertEquals(2, deque.size());
+    }
+
+    private void load(Integer... values) {
+        for (Integer value : values) {
+            deque.addLast(value);
+        }
+    }
+
+    private List<Integer> toList() {
+        List<Integer> list = new ArrayList<>();
+        deque.forEach(list::add);
+        return list;
+    }
+}
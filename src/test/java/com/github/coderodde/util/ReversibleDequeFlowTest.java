@@ -0,0 +1,256 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class ReversibleDequeFlowTest {
+
+    @Test(timeout = 10_000L)
+    public void publisherToSubscriber() throws InterruptedException {
+        final int num = 10_000;
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>();
+        ReversibleDequeSubscriber<Integer> subscriber =
+                new ReversibleDequeSubscriber<>(8);
+
+        publisher.subscribe(subscriber);
+
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < num; i++) {
+                    publisher.putLast(i);
+                }
+            } catch (InterruptedException ex) {
+                return;
+            }
+
+            publisher.close();
+        });
+
+        producer.start();
+
+        for (int i = 0; i < num; i++) {
+            assertEquals(Integer.valueOf(i), subscriber.takeFirst());
+            assertTrue(subscriber.size() <= subscriber.getCapacity());
+            assertTrue(publisher.size() <= publisher.getCapacity());
+        }
+
+        producer.join();
+
+        try {
+            subscriber.takeFirst();
+            fail("The subscriber should be completed.");
+        } catch (NoSuchElementException ex) {
+            assertTrue(subscriber.isCompleted());
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void publisherHonoursRevertAndDemand() throws InterruptedException {
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>();
+
+        for (int i = 1; i <= 5; i++) {
+            publisher.addLast(i);
+        }
+
+        publisher.revert();
+
+        ReversibleDequeSubscriber<Integer> subscriber =
+                new ReversibleDequeSubscriber<>(2);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(Integer.valueOf(5), subscriber.takeFirst());
+        assertEquals(Integer.valueOf(4), subscriber.takeFirst());
+        assertEquals(Integer.valueOf(3), subscriber.takeFirst());
+
+        // Wait until the publisher has emitted the last requested batch:
+        while (subscriber.size() < 2) {
+            Thread.sleep(1L);
+        }
+
+        assertTrue(publisher.size() <= 1);
+
+        subscriber.revert();
+        publisher.close();
+
+        assertEquals(Integer.valueOf(1), subscriber.takeFirst());
+        assertEquals(Integer.valueOf(2), subscriber.takeFirst());
+    }
+
+    @Test
+    public void offerFailsWhenFull() {
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>(Runnable::run, 8, 2);
+
+        assertTrue(publisher.offerLast(1));
+        assertTrue(publisher.offerFirst(2));
+        assertFalse(publisher.offerLast(3));
+        assertFalse(publisher.offerFirst(3));
+        assertEquals(2, publisher.size());
+
+        try {
+            publisher.addLast(3);
+            fail("A full publisher should reject addLast.");
+        } catch (IllegalStateException ex) {
+            assertEquals(2, publisher.size());
+        }
+    }
+
+    @Test(timeout = 10_000L)
+    public void putWaitsUntilSubscriberTakesElements()
+            throws InterruptedException {
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>(ForkJoinPool.commonPool(), 8, 2);
+
+        publisher.putLast(1);
+        publisher.putLast(2);
+
+        Thread producer = new Thread(() -> {
+            try {
+                publisher.putLast(3);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        producer.start();
+
+        // The producer must still be waiting on the full publisher:
+        producer.join(100L);
+        assertTrue(producer.isAlive());
+        assertEquals(2, publisher.size());
+
+        ReversibleDequeSubscriber<Integer> subscriber =
+                new ReversibleDequeSubscriber<>(8);
+
+        publisher.subscribe(subscriber);
+        producer.join();
+        publisher.close();
+
+        assertEquals(Integer.valueOf(1), subscriber.takeFirst());
+        assertEquals(Integer.valueOf(2), subscriber.takeFirst());
+        assertEquals(Integer.valueOf(3), subscriber.takeFirst());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void publisherCapacityMustBePositive() {
+        new ReversibleDequePublisher<Integer>(Runnable::run, 8, 0);
+    }
+
+    @Test
+    public void throwingSubscriberDoesNotLoseElements() {
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>(Runnable::run, 8);
+
+        for (int i = 1; i <= 5; i++) {
+            publisher.addLast(i);
+        }
+
+        List<Integer> received = new ArrayList<>();
+
+        publisher.subscribe(new Flow.Subscriber<Integer>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+
+                if (item == 2) {
+                    throw new RuntimeException();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {}
+
+            @Override
+            public void onComplete() {}
+        });
+
+        assertEquals(List.of(1, 2), received);
+        assertEquals(3, publisher.size());
+
+        publisher.addLast(6);
+
+        assertEquals(List.of(1, 2), received);
+        assertEquals(4, publisher.size());
+    }
+
+    @Test
+    public void noSignalBeforeOnSubscribeReturns() {
+        ReversibleDequePublisher<Integer> publisher =
+                new ReversibleDequePublisher<>(Runnable::run, 8);
+        List<String> events = new ArrayList<>();
+
+        publisher.subscribe(new Flow.Subscriber<Integer>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+                publisher.addLast(1);
+                publisher.close();
+                events.add("onSubscribe");
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                events.add("onNext " + item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                events.add("onError");
+            }
+
+            @Override
+            public void onComplete() {
+                events.add("onComplete");
+            }
+        });
+
+        assertEquals(List.of("onSubscribe", "onNext 1", "onComplete"), events);
+    }
+
+    @Test
+    public void subscriberFailsOnUnrequestedElement() {
+        ReversibleDequeSubscriber<Integer> subscriber =
+                new ReversibleDequeSubscriber<>(1);
+        boolean[] cancelled = new boolean[1];
+
+        subscriber.onSubscribe(new Flow.Subscription() {
+
+            @Override
+            public void request(long n) {}
+
+            @Override
+            public void cancel() {
+                cancelled[0] = true;
+            }
+        });
+
+        subscriber.onNext(1);
+        subscriber.onNext(2);
+
+        assertTrue(cancelled[0]);
+        assertTrue(subscriber.getError() instanceof IllegalStateException);
+        assertEquals(1, subscriber.size());
+        assertEquals(Integer.valueOf(1), subscriber.pollFirst());
+        assertNull(subscriber.pollFirst());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void subscriberCapacityMustBePositive() {
+        new ReversibleDequeSubscriber<Integer>(0);
+    }
+}
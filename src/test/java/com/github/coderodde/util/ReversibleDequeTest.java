@@ -1,7 +1,15 @@
 
 package com.github.coderodde.util;
 
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
@@ -143,6 +151,165 @@ public class ReversibleDequeTest {
         assertFalse(iterator.hasNext());
     }
     
+    @Test
+    public void sort() {
+        Random random = new Random(1L);
+        
+        for (int num = 0; num < 50; num++) {
+            deque.clear();
+            List<Integer> expected = new ArrayList<>();
+            
+            for (int i = 0; i < num; i++) {
+                Integer value = random.nextInt(20);
+                deque.addLast(value);
+                expected.add(value);
+            }
+            
+            deque.sort(null);
+            expected.sort(null);
+            
+            assertEquals(expected, toList());
+            assertDescendingMatches(expected);
+        }
+    }
+    
+    @Test
+    public void sortIsStableWhenReverted() {
+        ReversibleDeque<String> strings = new ReversibleDeque<>();
+        
+        for (String s : Arrays.asList("b1", "a1", "b2", "a2", "c1", "a3")) {
+            strings.addFirst(s);
+        }
+        
+        strings.revert();
+        strings.sort(Comparator.comparing(s -> s.charAt(0)));
+        
+        assertTrue(strings.isReverted());
+        assertEquals(Arrays.asList("a1", "a2", "a3", "b1", "b2", "c1"),
+                     Arrays.asList(toArray(strings)));
+        assertEquals("a1", strings.getFirst());
+        assertEquals("c1", strings.getLast());
+    }
+    
+    @Test
+    public void mergeSorted() {
+        ReversibleDeque<Integer> other = new ReversibleDeque<>();
+        
+        deque.addLast(1);
+        deque.addLast(3);
+        deque.addLast(5);
+        deque.addLast(7);
+        
+        other.addFirst(2);
+        other.addFirst(3);
+        other.addFirst(8);
+        other.revert();
+        
+        deque.mergeSorted(other, null);
+        
+        assertEquals(Arrays.asList(1, 2, 3, 3, 5, 7, 8), toList());
+        assertDescendingMatches(Arrays.asList(1, 2, 3, 3, 5, 7, 8));
+        assertTrue(other.isEmpty());
+        
+        deque.revert();
+        other.addLast(9);
+        other.addLast(4);
+        
+        deque.mergeSorted(other, Comparator.reverseOrder());
+        
+        assertEquals(Arrays.asList(9, 8, 7, 5, 4, 3, 3, 2, 1), toList());
+        assertEquals(9, deque.size());
+    }
+    
+    @Test
+    public void bruteForceAgainstArrayDeque() {
+        Random random = new Random(7L);
+        Deque<Integer> reference = new ArrayDeque<>();
+        boolean referenceReverted = false;
+        
+        for (int i = 0; i < 20_000; i++) {
+            int op = random.nextInt(9);
+            Integer value = i;
+            
+            if (op < 2) {
+                deque.addFirst(value);
+                
+                if (referenceReverted) {
+                    reference.addLast(value);
+                } else {
+                    reference.addFirst(value);
+                }
+            } else if (op < 4) {
+                deque.addLast(value);
+                
+                if (referenceReverted) {
+                    reference.addFirst(value);
+                } else {
+                    reference.addLast(value);
+                }
+            } else if (op == 4 && !reference.isEmpty()) {
+                assertEquals(referenceReverted ? 
+                                     reference.removeLast() : 
+                                     reference.removeFirst(), 
+                             deque.removeFirst());
+            } else if (op == 5 && !reference.isEmpty()) {
+                assertEquals(referenceReverted ? 
+                                     reference.removeFirst() : 
+                                     reference.removeLast(), 
+                             deque.removeLast());
+            } else if (op == 6) {
+                deque.revert();
+                referenceReverted = !referenceReverted;
+            } else if (op == 7 && !reference.isEmpty()) {
+                List<Integer> expected = new ArrayList<>(reference);
+                
+                if (referenceReverted) {
+                    Collections.reverse(expected);
+                }
+                
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.get(index), deque.get(index));
+            }
+            
+            assertEquals(reference.size(), deque.size());
+        }
+        
+        List<Integer> expected = new ArrayList<>(reference);
+        
+        if (referenceReverted) {
+            Collections.reverse(expected);
+        }
+        
+        assertEquals(expected, toList());
+        assertDescendingMatches(expected);
+    }
+    
+    private List<Integer> toList() {
+        List<Integer> list = new ArrayList<>();
+        deque.forEach(list::add);
+        return list;
+    }
+    
+    private void assertDescendingMatches(List<Integer> expected) {
+        Iterator<Integer> iterator = deque.descendingIterator();
+        
+        for (int i = expected.size() - 1; i >= 0; i--) {
+            assertEquals(expected.get(i), iterator.next());
+        }
+        
+        assertFalse(iterator.hasNext());
+    }
+    
+    private static String[] toArray(ReversibleDeque<String> strings) {
+        String[] array = new String[strings.size()];
+        
+        for (int i = 0; i < array.length; i++) {
+            array[i] = strings.get(i);
+        }
+        
+        return array;
+    }
+    
     private void load(int num) {
         for (int i = 1; i <= num; i++) {
             deque.addLast(Integer.valueOf(i));
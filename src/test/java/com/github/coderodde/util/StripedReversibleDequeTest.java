@@ -0,0 +1,119 @@
+package com.github.coderodde.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class StripedReversibleDequeTest {
+
+    @Test
+    public void singleThreadKeepsOrder() {
+        StripedReversibleDeque<Integer> deque = new StripedReversibleDeque<>(4);
+
+        for (int i = 1; i <= 5; i++) {
+            deque.addLast(i);
+        }
+
+        assertEquals(5, deque.size());
+        assertEquals(Integer.valueOf(1), deque.removeFirst());
+        assertEquals(Integer.valueOf(5), deque.removeLast());
+
+        deque.revert();
+
+        assertTrue(deque.isReverted());
+        assertEquals(Integer.valueOf(4), deque.removeFirst());
+        assertEquals(Integer.valueOf(2), deque.removeLast());
+        assertEquals(Integer.valueOf(3), deque.pollFirst());
+        assertNull(deque.pollLast());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void removeFromEmptyThrows() {
+        new StripedReversibleDeque<Integer>(2).removeFirst();
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void addFirstRejectsNull() {
+        new StripedReversibleDeque<Integer>(2).addFirst(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void addLastRejectsNull() {
+        new StripedReversibleDeque<Integer>(2).addLast(null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeroLanesThrows() {
+        new StripedReversibleDeque<Integer>(0);
+    }
+
+    @Test
+    public void threadsGetDistinctLanes() throws InterruptedException {
+        final int laneCount = 16;
+        StripedReversibleDeque<Integer> deque =
+                new StripedReversibleDeque<>(laneCount);
+        Set<Integer> laneIndices = new HashSet<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < laneCount; i++) {
+            threads.add(new Thread(() -> {
+                int laneIndex = deque.getLaneIndexOfCurrentThread();
+
+                synchronized (laneIndices) {
+                    laneIndices.add(laneIndex);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(laneCount, laneIndices.size());
+    }
+
+    @Test
+    public void concurrentProducers() throws InterruptedException {
+        final int threadCount = 8;
+        final int perThread = 10_000;
+        StripedReversibleDeque<Integer> deque = new StripedReversibleDeque<>(4);
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < threadCount; i++) {
+            final int base = i * perThread;
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    deque.addLast(base + j);
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(threadCount * perThread, deque.size());
+
+        Set<Integer> seen = new HashSet<>();
+        Integer e;
+
+        while ((e = deque.pollFirst()) != null) {
+            assertTrue(seen.add(e));
+        }
+
+        assertEquals(threadCount * perThread, seen.size());
+    }
+}
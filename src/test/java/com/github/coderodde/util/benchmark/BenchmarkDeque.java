@@ -0,0 +1,27 @@
+package com.github.coderodde.util.benchmark;
+
+import java.util.Iterator;
+
+/**
+ * The operations {@link RevertBenchmark} runs on each storage engine.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+interface BenchmarkDeque<E> {
+
+    void revert();
+
+    void addFirst(E e);
+
+    void addLast(E e);
+
+    E removeFirst();
+
+    E removeLast();
+
+    E get(int index);
+
+    Iterator<E> iterator();
+}
@@ -0,0 +1,169 @@
+package com.github.coderodde.util.benchmark;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A storage engine that indexes both its ends and the links of each node by
+ * direction: the ends live in {@code ends[2]} and every node carries its own
+ * {@code Node[2]} link array. Kept only as a candidate of
+ * {@link RevertBenchmark}, where it measures the cost of the extra array
+ * allocated per node against the field links of
+ * {@link com.github.coderodde.util.ReversibleDeque}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+final class LinkArrayEngineDeque<E> implements BenchmarkDeque<E> {
+
+    private static final int PREV = 0;
+    private static final int NEXT = 1;
+
+    private static final class Node<E> {
+        E value;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        final Node<E>[] links = new Node[2];
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+
+    private int size;
+    private int modCount;
+
+    // NEXT if not reverted, PREV if reverted:
+    private int orientation = NEXT;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Node<E>[] ends = new Node[2];
+
+    @Override
+    public void revert() {
+        orientation ^= 1;
+        modCount++;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        linkAtEnd(new Node<>(e), orientation ^ 1);
+    }
+
+    @Override
+    public void addLast(E e) {
+        linkAtEnd(new Node<>(e), orientation);
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        return unlinkAtEnd(orientation ^ 1);
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        return unlinkAtEnd(orientation);
+    }
+
+    @Override
+    public E get(int index) {
+        checkNotEmpty();
+        checkAccessIndex(index);
+
+        int direction = index > size / 2 ? orientation ^ 1 : orientation;
+        int steps = index > size / 2 ? size - index - 1 : index;
+        Node<E> node = ends[direction ^ 1];
+
+        while (steps-- > 0) {
+            node = node.links[direction];
+        }
+
+        return node.value;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        int direction = orientation;
+
+        return new Iterator<E>() {
+
+            private final int expectedModCount = modCount;
+            private Node<E> currentNode = ends[direction ^ 1];
+            private int iterated;
+
+            @Override
+            public boolean hasNext() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+
+                return iterated < size;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException(
+                            "No more elements to iterate.");
+                }
+
+                iterated++;
+                E value = currentNode.value;
+                currentNode = currentNode.links[direction];
+                return value;
+            }
+        };
+    }
+
+    private void linkAtEnd(Node<E> newNode, int end) {
+        Node<E> oldEnd = ends[end];
+
+        if (oldEnd == null) {
+            ends[end ^ 1] = newNode;
+        } else {
+            newNode.links[end ^ 1] = oldEnd;
+            oldEnd.links[end] = newNode;
+        }
+
+        ends[end] = newNode;
+        size++;
+        modCount++;
+    }
+
+    private E unlinkAtEnd(int end) {
+        Node<E> nodeToRemove = ends[end];
+        Node<E> newEnd = nodeToRemove.links[end ^ 1];
+        E returnValue = nodeToRemove.value;
+
+        if (newEnd == null) {
+            ends[end ^ 1] = null;
+        } else {
+            newEnd.links[end] = null;
+        }
+
+        ends[end] = newEnd;
+        size--;
+        modCount++;
+
+        nodeToRemove.value = null;
+        nodeToRemove.links[PREV] = nodeToRemove.links[NEXT] = null;
+        return returnValue;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                    "index = " + index + ", size = " + size);
+        }
+    }
+}
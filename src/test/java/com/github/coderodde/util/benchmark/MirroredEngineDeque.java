@@ -0,0 +1,242 @@
+package com.github.coderodde.util.benchmark;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The former storage engine of
+ * {@link com.github.coderodde.util.ReversibleDeque}: plain {@code prev} and
+ * {@code next} links, {@code head} and {@code tail}, and every operation
+ * branching on the reversal state into a mirrored pair of code paths. Kept
+ * only as the baseline of {@link RevertBenchmark}.
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+final class MirroredEngineDeque<E> implements BenchmarkDeque<E> {
+
+    private static final class Node<E> {
+        E value;
+        Node<E> prev;
+        Node<E> next;
+
+        Node(E value) {
+            this.value = value;
+        }
+    }
+
+    private int size;
+    private int modCount;
+    private boolean reverted;
+    private Node<E> head;
+    private Node<E> tail;
+
+    @Override
+    public void revert() {
+        reverted = !reverted;
+        modCount++;
+    }
+
+    @Override
+    public void addFirst(E e) {
+        if (reverted) {
+            appendNode(new Node<>(e));
+        } else {
+            prependNode(new Node<>(e));
+        }
+
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public void addLast(E e) {
+        if (reverted) {
+            prependNode(new Node<>(e));
+        } else {
+            appendNode(new Node<>(e));
+        }
+
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public E removeFirst() {
+        checkNotEmpty();
+        size--;
+        modCount++;
+        return reverted ? removeTailImpl() : removeHeadImpl();
+    }
+
+    @Override
+    public E removeLast() {
+        checkNotEmpty();
+        size--;
+        modCount++;
+        return reverted ? removeHeadImpl() : removeTailImpl();
+    }
+
+    @Override
+    public E get(int index) {
+        checkNotEmpty();
+        checkAccessIndex(index);
+
+        if (reverted) {
+            return index > size / 2 ?
+                    getForward(size - index - 1) :
+                    getBackward(index);
+        } else {
+            return index > size / 2 ?
+                    getBackward(size - index - 1) :
+                    getForward(index);
+        }
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return reverted ? new BackwardIterator() : new ForwardIterator();
+    }
+
+    private void prependNode(Node<E> newNode) {
+        if (size == 0) {
+            head = tail = newNode;
+        } else {
+            newNode.next = head;
+            head.prev = newNode;
+            head = newNode;
+        }
+    }
+
+    private void appendNode(Node<E> newNode) {
+        if (size == 0) {
+            head = tail = newNode;
+        } else {
+            newNode.prev = tail;
+            tail.next = newNode;
+            tail = newNode;
+        }
+    }
+
+    private E removeHeadImpl() {
+        Node<E> nodeToRemove = head;
+        E returnValue = nodeToRemove.value;
+
+        if (size == 0) {
+            head = tail = null;
+        } else {
+            head = head.next;
+            head.prev = null;
+        }
+
+        nullify(nodeToRemove);
+        return returnValue;
+    }
+
+    private E removeTailImpl() {
+        Node<E> nodeToRemove = tail;
+        E returnValue = nodeToRemove.value;
+
+        if (size == 0) {
+            head = tail = null;
+        } else {
+            tail = tail.prev;
+            tail.next = null;
+        }
+
+        nullify(nodeToRemove);
+        return returnValue;
+    }
+
+    private static <E> void nullify(Node<E> node) {
+        node.value = null;
+        node.prev = node.next = null;
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException("Accessing an empty deque.");
+        }
+    }
+
+    private void checkAccessIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException(
+                    "index = " + index + ", size = " + size);
+        }
+    }
+
+    private E getForward(int index) {
+        Node<E> node = head;
+
+        while (index-- > 0) {
+            node = node.next;
+        }
+
+        return node.value;
+    }
+
+    private E getBackward(int index) {
+        Node<E> node = tail;
+
+        while (index-- > 0) {
+            node = node.prev;
+        }
+
+        return node.value;
+    }
+
+    private class ForwardIterator implements Iterator<E> {
+
+        protected final int expectedModCount = modCount;
+        protected Node<E> currentNode = head;
+        protected int iterated;
+
+        @Override
+        public boolean hasNext() {
+            checkForConcurrentModification();
+            return iterated < size;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(
+                        "No more elements to iterate.");
+            }
+
+            iterated++;
+            E value = currentNode.value;
+            currentNode = currentNode.next;
+            return value;
+        }
+
+        protected void checkForConcurrentModification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class BackwardIterator extends ForwardIterator {
+
+        BackwardIterator() {
+            currentNode = tail;
+        }
+
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException(
+                        "No more elements to iterate.");
+            }
+
+            iterated++;
+            E value = currentNode.value;
+            currentNode = currentNode.prev;
+            return value;
+        }
+    }
+}
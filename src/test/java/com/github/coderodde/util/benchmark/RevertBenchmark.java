@@ -0,0 +1,162 @@
+package com.github.coderodde.util.benchmark;
+
+import com.github.coderodde.util.ReversibleDeque;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * This JMH benchmark compares the storage engine of {@link ReversibleDeque},
+ * which keeps its ends in {@code ends[2]} and its node links in plain fields,
+ * against two other engines: {@link MirroredEngineDeque}, the former engine
+ * that branches on the reversal state into mirrored code paths, and
+ * {@link LinkArrayEngineDeque}, which additionally allocates a
+ * {@code Node[2]} link array per node. Each engine runs in its own forked
+ * JVM, so that every call site sees a single engine.
+ * <p>
+ * {@code churn} runs {@value #OPERATIONS} operations, each adding an element
+ * at a random end and removing one at a random end of a deque holding
+ * {@code size} elements, with a {@code revert()} every {@code revertPeriod}
+ * operations. {@code get} reads {@value #OPERATIONS} random indices with the
+ * same revert period. {@code iterate} reverts and then iterates the whole
+ * deque. Run it with
+ * <pre>
+ * mvn test-compile dependency:build-classpath \
+ *     -Dmdep.includeScope=test -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main RevertBenchmark
+ * </pre>
+ *
+ * @author Rodion "rodde" Efremov
+ * @version 1.6 (Oct 19, 2026)
+ * @since 1.6 (Oct 19, 2026)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RevertBenchmark {
+
+    static final int OPERATIONS = 1024;
+
+    @Param({ "reversible", "mirrored", "linkArray" })
+    public String engine;
+
+    @Param({ "1", "16", "1024" })
+    public int revertPeriod;
+
+    @Param({ "1024" })
+    public int size;
+
+    private final Integer element = 1;
+    private BenchmarkDeque<Integer> deque;
+    private boolean[] addAtFront;
+    private boolean[] removeAtFront;
+    private int[] indices;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        deque = createDeque(engine);
+
+        for (int i = 0; i < size; i++) {
+            deque.addLast(element);
+        }
+
+        Random random = new Random(1L);
+        addAtFront = new boolean[OPERATIONS];
+        removeAtFront = new boolean[OPERATIONS];
+        indices = new int[OPERATIONS];
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            addAtFront[i] = random.nextBoolean();
+            removeAtFront[i] = random.nextBoolean();
+            indices[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int churn() {
+        int sum = 0;
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (i % revertPeriod == 0) {
+                deque.revert();
+            }
+
+            if (addAtFront[i]) {
+                deque.addFirst(element);
+            } else {
+                deque.addLast(element);
+            }
+
+            sum += removeAtFront[i] ? deque.removeFirst() : deque.removeLast();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(OPERATIONS)
+    public int get() {
+        int sum = 0;
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            if (i % revertPeriod == 0) {
+                deque.revert();
+            }
+
+            sum += deque.get(indices[i]);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public int iterate() {
+        int sum = 0;
+        deque.revert();
+        Iterator<Integer> iterator = deque.iterator();
+
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+
+        return sum;
+    }
+
+    private static BenchmarkDeque<Integer> createDeque(String engine) {
+        switch (engine) {
+            case "reversible":
+                return new ReversibleEngineDeque<>();
+
+            case "mirrored":
+                return new MirroredEngineDeque<>();
+
+            case "linkArray":
+                return new LinkArrayEngineDeque<>();
+
+            default:
+                throw new IllegalArgumentException("engine = " + engine);
+        }
+    }
+
+    // ReversibleDeque already has every method of BenchmarkDeque.
+    private static final class ReversibleEngineDeque<E>
+            extends ReversibleDeque<E> implements BenchmarkDeque<E> {}
+}
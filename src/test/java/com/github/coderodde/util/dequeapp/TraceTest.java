@@ -0,0 +1,205 @@
+package com.github.coderodde.util.dequeapp;
+
+import com.github.coderodde.util.ReversibleDeque;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+public class TraceTest {
+
+    @Test
+    public void recordAndReadBinary() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        try (TraceRecordingDeque<String> deque = new TraceRecordingDeque<>(out)) {
+            deque.addLast("a");
+            deque.addFirst("b");
+            deque.revert();
+            assertEquals("a", deque.get(0));
+            assertEquals("b", deque.get(1));
+            deque.forEach(s -> {});
+            deque.removeFirst();
+            deque.getLast();
+        }
+        
+        Trace trace = Trace.read(new ByteArrayInputStream(out.toByteArray()));
+        
+        assertEquals(8, trace.length());
+        assertEquals(TraceOp.ADD_LAST, trace.getOp(0));
+        assertEquals(TraceOp.ADD_FIRST, trace.getOp(1));
+        assertEquals(TraceOp.REVERT, trace.getOp(2));
+        assertEquals(TraceOp.GET, trace.getOp(3));
+        assertEquals(0, trace.getArgument(3));
+        assertEquals(1, trace.getArgument(4));
+        assertEquals(TraceOp.ITERATE, trace.getOp(5));
+        assertEquals(2, trace.getArgument(5));
+        assertEquals(TraceOp.REMOVE_FIRST, trace.getOp(6));
+        assertEquals(TraceOp.GET_LAST, trace.getOp(7));
+    }
+    
+    @Test
+    public void textRoundTrip() throws IOException {
+        String text = "# A hand-authored trace.\n" +
+                      "al x\n" + 
+                      "af\n" + 
+                      "al\n" +
+                      "rev\n" + 
+                      "get 300\n" + 
+                      "\n" + 
+                      "iter\n" + 
+                      "rf\n" + 
+                      "rl\n";
+        
+        Trace trace = Trace.read(
+                new ByteArrayInputStream(
+                        text.getBytes(StandardCharsets.UTF_8)));
+        
+        assertEquals(8, trace.length());
+        assertEquals(300, trace.getArgument(4));
+        
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        trace.writeBinary(out);
+        Trace copy = Trace.read(new ByteArrayInputStream(out.toByteArray()));
+        
+        assertEquals(trace.length(), copy.length());
+        
+        for (int i = 0; i < trace.length(); i++) {
+            assertEquals(trace.getOp(i), copy.getOp(i));
+            assertEquals(trace.getArgument(i), copy.getArgument(i));
+        }
+    }
+    
+    @Test
+    public void recordsConsumedElementsAndDirection() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        
+        try (TraceRecordingDeque<Integer> deque = 
+                new TraceRecordingDeque<>(out)) {
+            for (int i = 0; i < 5; i++) {
+                deque.addLast(i);
+            }
+            
+            assertEquals(1, deque.view().limit(1).toList().size());
+            assertEquals(2, deque.view().reversed().limit(2).toList().size());
+            deque.iterator();
+            deque.clear();
+            deque.addFirst(7);
+            
+            // Pending until close():
+            deque.descendingIterator().next();
+        }
+        
+        Trace trace = Trace.read(new ByteArrayInputStream(out.toByteArray()));
+        
+        assertEquals(10, trace.length());
+        assertEquals(TraceOp.ITERATE, trace.getOp(5));
+        assertEquals(1, trace.getArgument(5));
+        assertEquals(TraceOp.DESCENDING_ITERATE, trace.getOp(6));
+        assertEquals(2, trace.getArgument(6));
+        assertEquals(TraceOp.CLEAR, trace.getOp(7));
+        assertEquals(TraceOp.ADD_FIRST, trace.getOp(8));
+        assertEquals(TraceOp.DESCENDING_ITERATE, trace.getOp(9));
+        assertEquals(1, trace.getArgument(9));
+        
+        ArrayDeque<Integer> arrayDeque = new ArrayDeque<>();
+        new TraceReplayer(trace).replay("ArrayDeque", () -> {
+            arrayDeque.clear();
+            return arrayDeque;
+        });
+        
+        assertEquals(1, arrayDeque.size());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void mergeSortedIsNotRecordable() {
+        TraceRecordingDeque<Integer> deque = 
+                new TraceRecordingDeque<>(new ByteArrayOutputStream());
+        
+        deque.mergeSorted(new ReversibleDeque<>(), null);
+    }
+    
+    @Test
+    public void mergingFromRecorderRecordsClear() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReversibleDeque<Integer> deque = new ReversibleDeque<>();
+        deque.addLast(2);
+        
+        try (TraceRecordingDeque<Integer> recorder = 
+                new TraceRecordingDeque<>(out)) {
+            recorder.addLast(1);
+            recorder.addLast(3);
+            deque.mergeSorted(recorder, null);
+            assertTrue(recorder.isEmpty());
+        }
+        
+        Trace trace = Trace.read(new ByteArrayInputStream(out.toByteArray()));
+        
+        assertEquals(3, trace.length());
+        assertEquals(TraceOp.CLEAR, trace.getOp(2));
+        assertEquals(3, deque.size());
+        assertEquals(Integer.valueOf(1), deque.getFirst());
+        assertEquals(Integer.valueOf(3), deque.getLast());
+    }
+    
+    @Test
+    public void textIterationCounts() throws IOException {
+        Trace trace = Trace.readText(
+                new ByteArrayInputStream(
+                        "iter\nditer 3\nclear\n"
+                                .getBytes(StandardCharsets.UTF_8)));
+        
+        assertEquals(TraceOp.FULL_ITERATION, trace.getArgument(0));
+        assertEquals(TraceOp.DESCENDING_ITERATE, trace.getOp(1));
+        assertEquals(3, trace.getArgument(1));
+        assertEquals(TraceOp.CLEAR, trace.getOp(2));
+    }
+    
+    @Test(expected = IOException.class)
+    public void rejectsUnknownCommand() throws IOException {
+        Trace.readText(
+                new ByteArrayInputStream(
+                        "al 1\nfoo\n".getBytes(StandardCharsets.UTF_8)));
+    }
+    
+    @Test
+    public void replayEmulatesRevert() throws IOException {
+        String text = "al\nal\nal\nrev\nrf\nget 1\niter\naf\nrl\n";
+        Trace trace = Trace.readText(
+                new ByteArrayInputStream(
+                        text.getBytes(StandardCharsets.UTF_8)));
+        
+        TraceReplayer replayer = new TraceReplayer(trace);
+        List<Deque<Integer>> deques = new ArrayList<>();
+        TraceReplayer.Result result = 
+                replayer.replay("ArrayDeque", () -> {
+                    Deque<Integer> deque = new ArrayDeque<>();
+                    deques.add(deque);
+                    return deque;
+                });
+        
+        replayer.replay("LinkedList", () -> {
+            Deque<Integer> deque = new LinkedList<>();
+            deques.add(deque);
+            return deque;
+        });
+        
+        // One deque for the throughput pass and one for the latency pass:
+        assertEquals(4, deques.size());
+        
+        for (Deque<Integer> deque : deques) {
+            assertEquals(2, deque.size());
+        }
+        
+        assertEquals(9, result.getNumberOfOperations());
+        assertTrue(result.getLatencyPercentileNanos(50.0) 
+                <= result.getLatencyPercentileNanos(100.0));
+    }
+}